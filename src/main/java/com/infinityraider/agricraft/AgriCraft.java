@@ -8,6 +8,7 @@ import com.infinityraider.agricraft.content.AgriItemRegistry;
 import com.infinityraider.agricraft.content.AgriTileRegistry;
 import com.infinityraider.agricraft.impl.v1.CoreHandler;
 import com.infinityraider.agricraft.network.MessageCompareLight;
+import com.infinityraider.agricraft.network.MessageSyncCropPalette;
 import com.infinityraider.agricraft.network.json.MessageSyncMutationJson;
 import com.infinityraider.agricraft.network.json.MessageSyncPlantJson;
 import com.infinityraider.agricraft.network.json.MessageSyncSoilJson;
@@ -73,6 +74,7 @@ public class AgriCraft extends InfinityMod<IProxy, Config> {
         wrapper.registerMessage(MessageSyncWeedJson.class);
         wrapper.registerMessage(MessageSyncMutationJson.class);
         wrapper.registerMessage(MessageCompareLight.class);
+        wrapper.registerMessage(MessageSyncCropPalette.class);
     }
 
     @Override
@@ -4,6 +4,7 @@ import com.infinityraider.agricraft.api.v1.adapter.IAgriAdapterizer;
 import com.infinityraider.agricraft.api.v1.config.IAgriConfig;
 import com.infinityraider.agricraft.api.v1.crop.IAgriCrop;
 import com.infinityraider.agricraft.api.v1.fertilizer.IAgriFertilizer;
+import com.infinityraider.agricraft.api.v1.genetics.IAgriBreedingPlanner;
 import com.infinityraider.agricraft.api.v1.genetics.IAgriGeneRegistry;
 import com.infinityraider.agricraft.api.v1.genetics.IAgriGenome;
 import com.infinityraider.agricraft.api.v1.genetics.IAgriMutationHandler;
@@ -250,6 +251,14 @@ public final class AgriApi {
         return AgriApi.CONNECTOR.getAgriMutationHandler();
     }
 
+    /**
+     * @return The IAgriBreedingPlanner which finds the cheapest routes to obtain plants through mutations
+     */
+    @Nonnull
+    public static IAgriBreedingPlanner getBreedingPlanner() {
+        return AgriApi.CONNECTOR.getBreedingPlanner();
+    }
+
     /**
      * @param plant the plant for which to construct a new genome
      * @return A new IAgriGenome.Builder object to construct AgriCraft IAgriGenome objects
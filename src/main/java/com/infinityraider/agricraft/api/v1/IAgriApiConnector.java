@@ -4,6 +4,7 @@ import com.infinityraider.agricraft.api.v1.adapter.IAgriAdapterizer;
 import com.infinityraider.agricraft.api.v1.config.IAgriConfig;
 import com.infinityraider.agricraft.api.v1.crop.IAgriCrop;
 import com.infinityraider.agricraft.api.v1.fertilizer.IAgriFertilizer;
+import com.infinityraider.agricraft.api.v1.genetics.IAgriBreedingPlanner;
 import com.infinityraider.agricraft.api.v1.genetics.IAgriGeneRegistry;
 import com.infinityraider.agricraft.api.v1.genetics.IAgriGenome;
 import com.infinityraider.agricraft.api.v1.genetics.IAgriMutationHandler;
@@ -87,6 +88,9 @@ public interface IAgriApiConnector {
     @Nonnull
     IAgriMutationHandler getAgriMutationHandler();
 
+    @Nonnull
+    IAgriBreedingPlanner getBreedingPlanner();
+
     @Nonnull
     IAgriGenome.Builder getAgriGenomeBuilder(@Nonnull IAgriPlant plant);
 
@@ -0,0 +1,60 @@
+package com.infinityraider.agricraft.api.v1.genetics;
+
+import com.infinityraider.agricraft.api.v1.plant.IAgriPlant;
+
+import javax.annotation.Nonnull;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Finds the cheapest way to obtain a plant through the registered mutations, obtain via AgriApi.getBreedingPlanner()
+ *
+ * The cost of a plant which is not the child of any mutation is its complexity, the cost of obtaining a plant through a
+ * mutation is the sum of the costs of the parents plus the expected number of attempts for the mutation to succeed.
+ * Plans are cached, and are recalculated when mutations or plants are added to or removed from their registries.
+ */
+public interface IAgriBreedingPlanner {
+    /**
+     * Plans the cheapest route to obtain a plant
+     * @param target the plant to obtain
+     * @return an optional holding the plan, or empty if the plant can not be obtained
+     */
+    @Nonnull
+    Optional<Plan> getPlan(@Nonnull IAgriPlant target);
+
+    /**
+     * @param target the plant to obtain
+     * @return the cost of the cheapest route to obtain the plant, or Double.POSITIVE_INFINITY if it can not be obtained
+     */
+    double getCost(@Nonnull IAgriPlant target);
+
+    /**
+     * A route to obtain a plant
+     */
+    interface Plan {
+        /**
+         * @return the plant which is obtained by this plan
+         */
+        @Nonnull
+        IAgriPlant getTarget();
+
+        /**
+         * @return the total cost of this plan
+         */
+        double getCost();
+
+        /**
+         * @return the plants which are needed to start the plan, these are not the child of any mutation in the plan
+         */
+        @Nonnull
+        Set<IAgriPlant> getStartingPlants();
+
+        /**
+         * @return the mutations to perform, in order, the parents of each mutation are either starting plants or the
+         * children of earlier mutations, the last mutation results in the target, empty if the target is a starting plant
+         */
+        @Nonnull
+        List<IAgriMutation> getSteps();
+    }
+}
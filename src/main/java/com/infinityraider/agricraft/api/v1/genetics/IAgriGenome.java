@@ -7,6 +7,8 @@ import com.infinityraider.agricraft.api.v1.plant.IAgriPlantProvider;
 import com.infinityraider.agricraft.api.v1.stat.IAgriStat;
 import com.infinityraider.agricraft.api.v1.stat.IAgriStatProvider;
 import net.minecraft.nbt.CompoundNBT;
+import net.minecraft.nbt.ListNBT;
+import net.minecraftforge.common.util.Constants;
 
 import javax.annotation.Nonnull;
 import java.util.*;
@@ -76,7 +78,7 @@ public interface IAgriGenome extends IAgriPlantProvider, IAgriStatProvider, IAgr
     }
 
     /**
-     * Clones the genome
+     * Clones the genome, as genomes are immutable, implementations may return the genome itself
      * @return an identical copy of this genome
      */
     IAgriGenome clone();
@@ -94,7 +96,10 @@ public interface IAgriGenome extends IAgriPlantProvider, IAgriStatProvider, IAgr
      *
      * @param tag The tag to serialize to.
      * @return if the transcription was successful.
+     * @deprecated genomes are immutable, implementations may refuse to read tags which describe a different genome,
+     * use Builder.readFromNBT(CompoundNBT) instead
      */
+    @Deprecated
     boolean readFromNBT(@Nonnull CompoundNBT tag);
 
     /**
@@ -150,6 +155,27 @@ public interface IAgriGenome extends IAgriPlantProvider, IAgriStatProvider, IAgr
          */
         <T> Builder put(IAgriGenePair<T> pair);
 
+        /**
+         * Defines the gene pairs which were serialized to CompoundNBT by IAgriGenome.writeToNBT(),
+         * the genome which is built afterwards is invalid if it does not hold a plant
+         * @param tag the tag to read from
+         * @return this
+         */
+        @SuppressWarnings("unchecked")
+        default Builder readFromNBT(@Nonnull CompoundNBT tag) {
+            ListNBT list = tag.getList("agri_genome", Constants.NBT.TAG_COMPOUND);
+            for (int i = 0; i < list.size(); i++) {
+                CompoundNBT geneTag = list.getCompound(i);
+                AgriApi.getGeneRegistry().get(geneTag.getString("agri_gene")).ifPresent(gene -> {
+                    IAgriGene<Object> objectGene = (IAgriGene<Object>) gene;
+                    this.put(objectGene.generateGenePair(
+                            objectGene.readAlleleFromNBT(geneTag.getCompound("agri_dominant")),
+                            objectGene.readAlleleFromNBT(geneTag.getCompound("agri_recessive"))));
+                });
+            }
+            return this;
+        }
+
         /**
          * Defines multiple gene pairs
          * @param pairs the pairs
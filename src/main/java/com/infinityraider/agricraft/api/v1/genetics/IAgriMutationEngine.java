@@ -5,6 +5,7 @@ import com.infinityraider.agricraft.api.v1.plant.IAgriPlant;
 import net.minecraft.util.Tuple;
 
 import javax.annotation.Nonnull;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.Random;
@@ -33,6 +34,36 @@ public interface IAgriMutationEngine {
      */
     boolean handleMutationTick(IAgriCrop crop, Stream<IAgriCrop> neighbours, Random random);
 
+    /**
+     * Same as handleMutationTick(IAgriCrop, Stream, Random), but with the neighbours in an array,
+     * which allows implementations to select parents without allocating.
+     * Implementations are allowed to reorder the neighbours within the array.
+     *
+     * @param crop the crop for which the mutation tick has been fired
+     * @param neighbours array holding the crop's neighbouring crops
+     * @param count the number of neighbours in the array, starting from index 0
+     * @param random pseudo-random generator to take decisions
+     * @return true if the mutation / spread succeeded, false if it failed
+     */
+    default boolean handleMutationTick(IAgriCrop crop, IAgriCrop[] neighbours, int count, Random random) {
+        return this.handleMutationTick(crop, Arrays.stream(neighbours, 0, count), random);
+    }
+
+    /**
+     * Checks if a neighbouring crop can currently become a parent, this is used to skip the mutation ticks of cross crops
+     * which have no eligible parents at all.
+     *
+     * The result is cached until the contents of the crop or one of its neighbours change, therefore it must only depend
+     * on the contents of the crop (plant, genome, weeds and growth stage). Conditions which depend on the surroundings,
+     * such as fertility, must still be checked in handleMutationTick.
+     *
+     * @param neighbour a crop neighbouring a cross crop
+     * @return false if the crop can not become a parent as long as its contents do not change
+     */
+    default boolean canBeParent(IAgriCrop neighbour) {
+        return true;
+    }
+
     /**
      * Sets the selection logic to be used by the mutation engine
      *
@@ -20,12 +20,21 @@ public interface IAgriWeed extends IAgriRegisterable<IAgriWeed>, IAgriGrowable,
     ITextComponent getWeedName();
 
     /**
-     * Defines the chance of spawning on a specific crop
+     * Defines the chance of spawning on a specific crop.
      * @param crop the crop where this wheat is rolled to spawn
      * @return the chance to spawn, between 0 and 1, where 0 means it will never spawn, and 1 it will certainly spawn
      */
     double spawnChance(IAgriCrop crop);
 
+    /**
+     * Weeds whose spawn chance only depends on the biome and the soil of a crop may have it cached per biome and soil,
+     * which makes rolling for weeds much cheaper. Weeds which return false are asked for their spawn chance on every roll.
+     * @return true if the spawn chance only depends on the biome and the soil of the crop
+     */
+    default boolean isSpawnChanceCachable() {
+        return false;
+    }
+
     /**
      * Retrieves the base growth chance of the weed each tick.
      *
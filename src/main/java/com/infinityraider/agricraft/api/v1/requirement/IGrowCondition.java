@@ -56,6 +56,18 @@ public interface IGrowCondition {
      */
     Set<BlockPos> offsetsToCheck();
 
+    /**
+     * Determines to what extent the result of this condition may be cached by a crop.
+     * <p>
+     * Conditions which are cached are not re-evaluated on every growth tick, and are only re-evaluated after
+     * their cached state has been invalidated. Implementations which are not sure should use {@link CacheType#NONE}.
+     *
+     * @return the cache type of this condition
+     */
+    default CacheType getCacheType() {
+        return CacheType.NONE;
+    }
+
     /**
      * Adds a detailed description of the condition to the provided list.
      *
@@ -63,4 +75,19 @@ public interface IGrowCondition {
      */
     void addDescription(@Nonnull Consumer<ITextComponent> consumer);
 
+    enum CacheType {
+        /** The result can change at any time (e.g. light, time, entities), it is re-evaluated every time */
+        NONE,
+
+        /**
+         * The result can only change when a block is updated at one of the positions in {@link #offsetsToCheck()}.
+         * Block changes which do not notify neighbours (e.g. vanilla crop growth and farmland moisture) are not seen
+         * as block updates, the result is therefore also re-evaluated periodically and may be stale until then.
+         */
+        BLOCK_UPDATE,
+
+        /** The result never changes for the same position (e.g. biome, dimension) */
+        FULL
+    }
+
 }
@@ -115,8 +115,8 @@ public class BlockCropSticks extends BlockBaseTile<TileEntityCropSticks> impleme
     private final CropStickVariant variant;
 
     public BlockCropSticks(CropStickVariant variant) {
+        // Growth ticks are scheduled per chunk by the CropTickHandler, rather than through random ticks
         super(variant.getId(), Properties.create(variant.getMaterial())
-                .tickRandomly()
                 .notSolid()
                 .setLightLevel(LIGHT::fetch)
         );
@@ -223,8 +223,14 @@ public class BlockCropSticks extends BlockBaseTile<TileEntityCropSticks> impleme
         if(fromPos.up().equals(pos)) {
             if(!state.isValidPosition(world, pos)) {
                 this.breakBlock(state, world, pos, true);
+                return;
             }
         }
+        this.getCrop(world, pos).ifPresent(crop -> {
+            if(crop instanceof TileEntityCropSticks) {
+                ((TileEntityCropSticks) crop).onBlockUpdate(fromPos, world.getBlockState(fromPos));
+            }
+        });
     }
 
     @Override
@@ -254,6 +260,7 @@ public class BlockCropSticks extends BlockBaseTile<TileEntityCropSticks> impleme
         }
     }
 
+    // Not called by vanilla anymore, but kept for external sources which force random ticks
     @Override
     @Deprecated
     @SuppressWarnings("deprecation")
@@ -0,0 +1,332 @@
+package com.infinityraider.agricraft.content.core;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.infinityraider.agricraft.api.v1.crop.IAgriGrowthStage;
+import com.infinityraider.agricraft.api.v1.misc.IAgriRegisterable;
+import com.infinityraider.agricraft.api.v1.plant.IAgriWeed;
+import com.infinityraider.agricraft.impl.v1.AgriPalette;
+import com.infinityraider.agricraft.impl.v1.AgriRegistry;
+import com.infinityraider.agricraft.impl.v1.crop.AgriGrowthRegistry;
+import com.infinityraider.agricraft.impl.v1.plant.AgriWeedRegistry;
+import com.infinityraider.agricraft.network.MessageSyncCropPalette;
+import net.minecraft.nbt.CompoundNBT;
+import net.minecraft.nbt.ListNBT;
+import net.minecraft.nbt.StringNBT;
+import net.minecraft.world.server.ServerWorld;
+import net.minecraft.world.storage.WorldSavedData;
+import net.minecraftforge.common.util.Constants;
+import net.minecraftforge.fml.LogicalSide;
+import net.minecraftforge.fml.common.thread.EffectiveSide;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Persistent palette which maps the ids of growth stages and weeds to small integers for the crops in a save.
+ *
+ * On the server, the palette is stored with the overworld's saved data, clients receive a copy when they connect
+ * and whenever new entries are added. Each logical side has its own palette, so the integrated server and the client
+ * never share state. Crops store their state as a single long of persistent ids, which is translated to and from
+ * the runtime palette ids through array lookups.
+ *
+ * Persistent ids are only meaningful within the save they were assigned in, every palette therefore has a random uid
+ * which crops store next to their ids. Ids from another save can not be decoded, such crops keep their plant and
+ * genome, but lose their growth stage and weeds.
+ */
+public final class CropStatePalette {
+    private static final CropStatePalette SERVER = new CropStatePalette();
+    private static final CropStatePalette CLIENT = new CropStatePalette();
+
+    /**
+     * @return the palette of the logical side of the calling thread
+     */
+    public static CropStatePalette getInstance() {
+        return getInstance(EffectiveSide.get());
+    }
+
+    public static CropStatePalette getInstance(LogicalSide side) {
+        return side.isServer() ? SERVER : CLIENT;
+    }
+
+    /** Version of the crop NBT format which stores palette ids, crops without a version use string ids */
+    public static final int FORMAT_VERSION = 2;
+
+    /** Returned when a state can not be encoded */
+    public static final long INVALID = -1;
+
+    private static final String DATA_NAME = "agricraft_crop_palette";
+    private static final String TAG_GROWTH = "growth";
+    private static final String TAG_WEED = "weed";
+    private static final String TAG_UID = "uid";
+
+    private final Section<IAgriGrowthStage> growth;
+    private final Section<IAgriWeed> weeds;
+
+    private Data data;
+    private volatile long uid;
+
+    private CropStatePalette() {
+        this.growth = new Section<>(TAG_GROWTH, AgriGrowthRegistry.getInstance(), AgriGrowthRegistry.getInstance().getPalette());
+        this.weeds = new Section<>(TAG_WEED, AgriWeedRegistry.getInstance(), AgriWeedRegistry.getInstance().getPalette());
+    }
+
+    /**
+     * Translates a crop state using runtime palette ids to one using persistent ids
+     * @param state the runtime state
+     * @param assign if ids which are not yet in the palette may be added
+     * @return the persistent state, or INVALID if an id is missing and could not be assigned
+     */
+    public long encode(long state, boolean assign) {
+        int growth = this.growth.toPersistent(PackedCropState.getGrowth(state), assign);
+        int weed = this.weeds.toPersistent(PackedCropState.getWeed(state), assign);
+        int weedGrowth = this.growth.toPersistent(PackedCropState.getWeedGrowth(state), assign);
+        if(growth < 0 || weed < 0 || weedGrowth < 0) {
+            return INVALID;
+        }
+        return this.pack(state, growth, weed, weedGrowth);
+    }
+
+    /**
+     * Translates a crop state using persistent palette ids to one using runtime ids
+     * @param state the persistent state
+     * @return the runtime state
+     */
+    public long decode(long state) {
+        int growth = this.growth.toRuntime(PackedCropState.getGrowth(state));
+        int weed = this.weeds.toRuntime(PackedCropState.getWeed(state));
+        int weedGrowth = this.growth.toRuntime(PackedCropState.getWeedGrowth(state));
+        return this.pack(state, growth, weed, weedGrowth);
+    }
+
+    /**
+     * @return the uid of this palette, identifying the save it belongs to
+     */
+    public long getUid() {
+        return this.uid;
+    }
+
+    /**
+     * Checks if persistent ids were assigned by this palette
+     * @param uid the uid of the palette which assigned the ids
+     * @return true if the ids can be decoded by this palette
+     */
+    public boolean isCurrent(long uid) {
+        return uid != 0 && uid == this.uid;
+    }
+
+    private long pack(long state, int growth, int weed, int weedGrowth) {
+        state = PackedCropState.setGrowth(state, growth);
+        state = PackedCropState.setWeed(state, weed);
+        return PackedCropState.setWeedGrowth(state, weedGrowth);
+    }
+
+    /**
+     * Loads the palette from the saved data of the overworld, called when the server loads the overworld
+     * @param world the overworld
+     */
+    public void load(ServerWorld world) {
+        this.growth.clear();
+        this.weeds.clear();
+        this.uid = 0;
+        this.data = world.getSavedData().getOrCreate(Data::new, DATA_NAME);
+        if(this.uid == 0) {
+            // New save, or a save from before the uid was stored
+            long uid = 0;
+            while(uid == 0) {
+                uid = new Random().nextLong();
+            }
+            this.uid = uid;
+            this.data.markDirty();
+        }
+    }
+
+    /**
+     * Writes the entire palette to a tag, to be synced to clients
+     * @return the tag
+     */
+    public CompoundNBT writeToTag() {
+        CompoundNBT tag = new CompoundNBT();
+        tag.putLong(TAG_UID, this.uid);
+        this.growth.writeToTag(tag);
+        this.weeds.writeToTag(tag);
+        return tag;
+    }
+
+    /**
+     * Reads the entire palette from a tag, replacing the current contents
+     * @param tag the tag
+     */
+    public void readFromTag(CompoundNBT tag) {
+        this.uid = tag.getLong(TAG_UID);
+        this.growth.readFromTag(tag);
+        this.weeds.readFromTag(tag);
+    }
+
+    /**
+     * Adds a single entry to the palette, used when clients are notified of new entries
+     * @param growth true for a growth stage, false for a weed
+     * @param id the persistent id
+     * @param entry the registry id
+     */
+    public void putEntry(boolean growth, int id, String entry) {
+        (growth ? this.growth : this.weeds).put(id, entry);
+    }
+
+    private void onEntryAdded(Section<?> section, int id, String entry) {
+        if(this.data != null) {
+            this.data.markDirty();
+            new MessageSyncCropPalette(section == this.growth, id, entry).sendToAll();
+        }
+    }
+
+    private final class Section<T extends IAgriRegisterable<T>> {
+        private final String key;
+        private final AgriRegistry<T> registry;
+        private final AgriPalette<T> runtime;
+
+        // Persistent id to registry id
+        private final List<String> entries;
+        private final Map<String, Integer> lookup;
+
+        // Persistent id to runtime id and vice versa, -1 if not yet resolved
+        private volatile int[] toRuntime;
+        private volatile int[] toPersistent;
+        private volatile int registryVersion;
+
+        private Section(String key, AgriRegistry<T> registry, AgriPalette<T> runtime) {
+            this.key = key;
+            this.registry = registry;
+            this.runtime = runtime;
+            this.entries = Lists.newArrayList();
+            this.lookup = Maps.newHashMap();
+            this.clear();
+        }
+
+        private synchronized void clear() {
+            this.entries.clear();
+            this.lookup.clear();
+            // The fallback is always the first entry
+            this.put(0, this.runtime.get(0).getId());
+        }
+
+        private synchronized void put(int id, String entry) {
+            while(this.entries.size() <= id) {
+                this.entries.add("");
+            }
+            this.entries.set(id, entry);
+            this.lookup.put(entry, id);
+            this.resetCache();
+        }
+
+        private void resetCache() {
+            int[] toRuntime = new int[this.entries.size()];
+            Arrays.fill(toRuntime, -1);
+            this.toRuntime = toRuntime;
+            this.toPersistent = new int[0];
+            this.registryVersion = this.registry.getVersion();
+        }
+
+        private void checkVersion() {
+            if(this.registryVersion != this.registry.getVersion()) {
+                synchronized (this) {
+                    this.resetCache();
+                }
+            }
+        }
+
+        private int toRuntime(int persistent) {
+            this.checkVersion();
+            int[] cache = this.toRuntime;
+            if(persistent < 0 || persistent >= cache.length) {
+                return 0;
+            }
+            int id = cache[persistent];
+            return id >= 0 ? id : this.resolveRuntime(persistent);
+        }
+
+        private synchronized int resolveRuntime(int persistent) {
+            T element = this.registry.getOrNull(this.entries.get(persistent));
+            int id = element == null ? 0 : this.runtime.getId(element);
+            this.toRuntime[persistent] = id;
+            return id;
+        }
+
+        private int toPersistent(int runtime, boolean assign) {
+            this.checkVersion();
+            int[] cache = this.toPersistent;
+            int id = runtime < cache.length ? cache[runtime] : -1;
+            return id >= 0 ? id : this.resolvePersistent(runtime, assign);
+        }
+
+        private synchronized int resolvePersistent(int runtime, boolean assign) {
+            String entry = this.runtime.get(runtime).getId();
+            Integer id = this.lookup.get(entry);
+            if(id == null) {
+                if(!assign) {
+                    return -1;
+                }
+                if(this.entries.size() > PackedCropState.MAX_ID) {
+                    // The palette is full, fall back to the default entry
+                    return 0;
+                }
+                id = this.entries.size();
+                this.entries.add(entry);
+                this.lookup.put(entry, id);
+                this.toRuntime = Arrays.copyOf(this.toRuntime, this.entries.size());
+                this.toRuntime[id] = runtime;
+                onEntryAdded(this, id, entry);
+            }
+            int[] cache = this.toPersistent;
+            if(runtime >= cache.length) {
+                cache = Arrays.copyOf(cache, Math.max(runtime + 1, 2 * cache.length));
+                Arrays.fill(cache, this.toPersistent.length, cache.length, -1);
+            }
+            cache[runtime] = id;
+            this.toPersistent = cache;
+            return id;
+        }
+
+        private synchronized void writeToTag(CompoundNBT tag) {
+            ListNBT list = new ListNBT();
+            for(String entry : this.entries) {
+                list.add(StringNBT.valueOf(entry));
+            }
+            tag.put(this.key, list);
+        }
+
+        private synchronized void readFromTag(CompoundNBT tag) {
+            this.entries.clear();
+            this.lookup.clear();
+            ListNBT list = tag.getList(this.key, Constants.NBT.TAG_STRING);
+            if(list.isEmpty()) {
+                this.clear();
+                return;
+            }
+            for(int i = 0; i < list.size(); i++) {
+                String entry = list.getString(i);
+                this.entries.add(entry);
+                this.lookup.put(entry, i);
+            }
+            this.resetCache();
+        }
+    }
+
+    private static final class Data extends WorldSavedData {
+        private Data() {
+            super(DATA_NAME);
+        }
+
+        @Override
+        public void read(CompoundNBT nbt) {
+            SERVER.readFromTag(nbt);
+        }
+
+        @Override
+        public CompoundNBT write(CompoundNBT compound) {
+            return compound.merge(SERVER.writeToTag());
+        }
+    }
+}
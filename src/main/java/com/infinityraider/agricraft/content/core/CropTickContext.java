@@ -0,0 +1,88 @@
+package com.infinityraider.agricraft.content.core;
+
+import com.infinityraider.agricraft.AgriCraft;
+import com.infinityraider.agricraft.api.v1.stat.IAgriStat;
+import com.infinityraider.agricraft.config.Config;
+import com.infinityraider.agricraft.impl.v1.genetics.AgriGeneRegistry;
+import com.infinityraider.agricraft.impl.v1.stats.AgriStatRegistry;
+
+/**
+ * Holds the values which are shared by all crops receiving a growth tick in the same batch,
+ * this way config values and registry lookups are only resolved once per batch instead of once per crop.
+ */
+public final class CropTickContext {
+    private boolean disableWeeds;
+    private boolean lethalWeeds;
+    private boolean aggressiveWeeds;
+    private double growthMultiplier;
+
+    private IAgriStat growthStat;
+    private IAgriStat resistanceStat;
+    private int resistanceMax;
+    private int growthOrdinal;
+    private int resistanceOrdinal;
+
+    private CropTickContext() {}
+
+    /**
+     * Creates a new context, populated with the current values
+     * @return a new context
+     */
+    public static CropTickContext create() {
+        CropTickContext context = new CropTickContext();
+        context.refresh();
+        return context;
+    }
+
+    /**
+     * Re-reads all shared values, should be called once before each batch of growth ticks
+     */
+    public void refresh() {
+        Config config = AgriCraft.instance.getConfig();
+        this.disableWeeds = config.disableWeeds();
+        this.lethalWeeds = config.allowLethalWeeds();
+        this.aggressiveWeeds = config.allowAggressiveWeeds();
+        this.growthMultiplier = config.growthMultiplier();
+        this.growthStat = AgriStatRegistry.getInstance().growthStat();
+        this.resistanceStat = AgriStatRegistry.getInstance().resistanceStat();
+        this.resistanceMax = this.resistanceStat.getMax();
+        this.growthOrdinal = AgriGeneRegistry.getInstance().getStatOrdinal(this.growthStat);
+        this.resistanceOrdinal = AgriGeneRegistry.getInstance().getStatOrdinal(this.resistanceStat);
+    }
+
+    public boolean disableWeeds() {
+        return this.disableWeeds;
+    }
+
+    public boolean allowLethalWeeds() {
+        return this.lethalWeeds;
+    }
+
+    public boolean allowAggressiveWeeds() {
+        return this.aggressiveWeeds;
+    }
+
+    public double growthMultiplier() {
+        return this.growthMultiplier;
+    }
+
+    public IAgriStat growthStat() {
+        return this.growthStat;
+    }
+
+    public IAgriStat resistanceStat() {
+        return this.resistanceStat;
+    }
+
+    public int resistanceMax() {
+        return this.resistanceMax;
+    }
+
+    public int growthOrdinal() {
+        return this.growthOrdinal;
+    }
+
+    public int resistanceOrdinal() {
+        return this.resistanceOrdinal;
+    }
+}
@@ -12,9 +12,11 @@ public class ItemDebugger extends ItemDebuggerBase {
             new DebugModeCheckSoil(),
             new DebugModeClearGrass(),
             new DebugModeCoreInfo(),
+            new DebugModeCropTicks(),
             new DebugModeIGrowable(),
             new DebugModeDiffLight(),
-            new DebugModeFillComponent()
+            new DebugModeFillComponent(),
+            new DebugModeFertilityTrace()
     );
 
     public ItemDebugger() {
@@ -94,8 +94,8 @@ public class ItemDynamicAgriSeed extends ItemBase implements IAgriSeedItem {
         if(tag == null) {
             return Optional.empty();
         }
-        IAgriGenome genome = AgriApi.getAgriGenomeBuilder(NO_PLANT).build();
-        if(!genome.readFromNBT(tag)) {
+        IAgriGenome genome = AgriApi.getAgriGenomeBuilder(NO_PLANT).readFromNBT(tag).build();
+        if(!genome.hasPlant()) {
             // Faulty NBT
             stack.setTag(null);
             return Optional.empty();
@@ -0,0 +1,64 @@
+package com.infinityraider.agricraft.content.core;
+
+/**
+ * Utility class to pack the mutable state of a crop into a single long.
+ * Growth stages and weeds are stored by their palette ids:
+ * - bits 0 to 15: growth stage of the plant
+ * - bits 16 to 31: weed
+ * - bits 32 to 47: growth stage of the weed
+ * - bit 48: cross crop flag
+ */
+public final class PackedCropState {
+    /** Maximum palette id which can be stored */
+    public static final int MAX_ID = 0xFFFF;
+
+    /** State of an empty crop: no growth, no weed, not a cross crop */
+    public static final long EMPTY = 0L;
+
+    private static final int GROWTH_SHIFT = 0;
+    private static final int WEED_SHIFT = 16;
+    private static final int WEED_GROWTH_SHIFT = 32;
+    private static final long CROSS_CROP_BIT = 1L << 48;
+
+    private PackedCropState() {}
+
+    public static int getGrowth(long state) {
+        return get(state, GROWTH_SHIFT);
+    }
+
+    public static long setGrowth(long state, int id) {
+        return set(state, GROWTH_SHIFT, id);
+    }
+
+    public static int getWeed(long state) {
+        return get(state, WEED_SHIFT);
+    }
+
+    public static long setWeed(long state, int id) {
+        return set(state, WEED_SHIFT, id);
+    }
+
+    public static int getWeedGrowth(long state) {
+        return get(state, WEED_GROWTH_SHIFT);
+    }
+
+    public static long setWeedGrowth(long state, int id) {
+        return set(state, WEED_GROWTH_SHIFT, id);
+    }
+
+    public static boolean isCrossCrop(long state) {
+        return (state & CROSS_CROP_BIT) != 0;
+    }
+
+    public static long setCrossCrop(long state, boolean status) {
+        return status ? (state | CROSS_CROP_BIT) : (state & ~CROSS_CROP_BIT);
+    }
+
+    private static int get(long state, int shift) {
+        return (int) ((state >>> shift) & MAX_ID);
+    }
+
+    private static long set(long state, int shift, int id) {
+        return (state & ~(((long) MAX_ID) << shift)) | (((long) (id & MAX_ID)) << shift);
+    }
+}
@@ -8,20 +8,32 @@ import com.infinityraider.agricraft.api.v1.event.AgriCropEvent;
 import com.infinityraider.agricraft.api.v1.crop.IAgriCrop;
 import com.infinityraider.agricraft.api.v1.fertilizer.IAgriFertilizer;
 import com.infinityraider.agricraft.api.v1.genetics.IAgriGenome;
+import com.infinityraider.agricraft.api.v1.genetics.IAgriMutationEngine;
 import com.infinityraider.agricraft.api.v1.items.IAgriRakeItem;
 import com.infinityraider.agricraft.api.v1.crop.IAgriGrowthStage;
 import com.infinityraider.agricraft.api.v1.plant.IAgriGrowable;
 import com.infinityraider.agricraft.api.v1.plant.IAgriPlant;
 import com.infinityraider.agricraft.api.v1.plant.IAgriWeed;
+import com.infinityraider.agricraft.api.v1.requirement.IGrowCondition;
 import com.infinityraider.agricraft.api.v1.seed.AgriSeed;
 import com.infinityraider.agricraft.api.v1.soil.IAgriSoil;
-import com.infinityraider.agricraft.api.v1.stat.IAgriStatProvider;
+import com.infinityraider.agricraft.api.v1.stat.IAgriStat;
 import com.infinityraider.agricraft.api.v1.stat.IAgriStatsMap;
+import com.infinityraider.agricraft.handler.CropTickHandler;
+import com.infinityraider.agricraft.handler.GrowthRequirementHandler;
 import com.infinityraider.agricraft.impl.v1.CoreHandler;
+import com.infinityraider.agricraft.impl.v1.crop.AgriGrowthRegistry;
+import com.infinityraider.agricraft.impl.v1.crop.FertilityTrace;
+import com.infinityraider.agricraft.impl.v1.crop.GrowConditionEvaluator;
 import com.infinityraider.agricraft.impl.v1.crop.GrowthRequirement;
 import com.infinityraider.agricraft.impl.v1.crop.NoGrowth;
+import com.infinityraider.agricraft.impl.v1.genetics.AgriGeneRegistry;
+import com.infinityraider.agricraft.impl.v1.genetics.AgriGenome;
 import com.infinityraider.agricraft.impl.v1.plant.NoPlant;
+import com.infinityraider.agricraft.impl.v1.plant.AgriWeedRegistry;
 import com.infinityraider.agricraft.impl.v1.plant.NoWeed;
+import com.infinityraider.agricraft.impl.v1.plant.WeedSpawnTable;
+import com.infinityraider.agricraft.impl.v1.requirement.AgriSoilRegistry;
 import com.infinityraider.agricraft.impl.v1.stats.AgriStatRegistry;
 import com.infinityraider.agricraft.impl.v1.stats.NoStats;
 import com.infinityraider.agricraft.reference.AgriNBT;
@@ -29,10 +41,13 @@ import com.infinityraider.agricraft.reference.AgriToolTips;
 import com.infinityraider.infinitylib.block.tile.TileEntityBase;
 import com.infinityraider.infinitylib.utility.debug.IDebuggable;
 
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Random;
+import java.util.Set;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
 import javax.annotation.Nonnull;
@@ -50,23 +65,31 @@ import net.minecraft.util.Direction;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.text.ITextComponent;
 import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.fml.LogicalSide;
+import net.minecraftforge.fml.common.thread.EffectiveSide;
 
 public class TileEntityCropSticks extends TileEntityBase implements IAgriCrop, IDebuggable {
     private static final IAgriGrowthStage NO_GROWTH = NoGrowth.getInstance();
     private static final IAgriPlant NO_PLANT = NoPlant.getInstance();
     private static final IAgriWeed NO_WEED = NoWeed.getInstance();
     private static final IAgriStatsMap NO_STATS = NoStats.getInstance();
+    private static final Direction[] HORIZONTALS = {Direction.NORTH, Direction.EAST, Direction.SOUTH, Direction.WEST};
 
     // Auto synced fields
     private final AutoSyncedField<Optional<IAgriGenome>> genome;
-    private final AutoSyncedField<IAgriGrowthStage> growth;
-    private final AutoSyncedField<IAgriWeed> weed;
-    private final AutoSyncedField<IAgriGrowthStage> weedGrowth;
-    private final AutoSyncedField<Boolean> crossCrop;
-    // Growth Requirements
-    private GrowthRequirement requirement;  // TODO: Implement growth requirements and cache their states
+    private final AutoSyncedField<Long> state;  // Packed growth, weed, weed growth and cross crop state (see PackedCropState)
+    private boolean legacyCrossCrop;
+    // Growth Requirements, cacheable conditions remain known until invalidated by a block update
+    private Set<IGrowCondition> requirementSource;
+    private GrowthRequirement requirement;
+    private BlockPos[] watchedPositions;
+    // Growth space, the obstructed layers above the crop remain known until a scanned position is updated or the scan expires
+    private BlockPos[] clearancePositions;
+    private final BitSet obstructions;
+    private long clearanceExpiry;
     // Cache for neighbouring crops
     private final Map<Direction, Optional<IAgriCrop>> neighbours;
+    private final IAgriCrop[] neighbourBuffer;
     private boolean needsCaching;
 
     public TileEntityCropSticks() {
@@ -83,9 +106,7 @@ public class TileEntityCropSticks extends TileEntityBase implements IAgriCrop, I
                 }),
                 (tag) -> {
                     if (tag.contains(AgriNBT.GENOME)) {
-                        IAgriGenome genome = AgriApi.getAgriGenomeBuilder(NO_PLANT).build();
-                        genome.readFromNBT(tag.getCompound(AgriNBT.GENOME));
-                        return Optional.of(genome);
+                        return Optional.of(AgriApi.getAgriGenomeBuilder(NO_PLANT).readFromNBT(tag.getCompound(AgriNBT.GENOME)).build());
                     } else {
                         return Optional.empty();
                     }
@@ -93,28 +114,17 @@ public class TileEntityCropSticks extends TileEntityBase implements IAgriCrop, I
                 CoreHandler::isInitialized,
                 Optional.empty());
 
-        this.growth = this.getAutoSyncedFieldBuilder(NO_GROWTH,
-                (growth, tag) -> tag.putString(AgriNBT.GROWTH, growth.getId()),
-                (tag) -> AgriApi.getGrowthStageRegistry().get(tag.getString(AgriNBT.GROWTH)).orElse(NO_GROWTH),
+        this.state = this.getAutoSyncedFieldBuilder(PackedCropState.EMPTY,
+                TileEntityCropSticks::writeState,
+                TileEntityCropSticks::readState,
                 CoreHandler::isInitialized,
-                NO_GROWTH).withRenderUpdate().build();
-
-        this.weed = this.getAutoSyncedFieldBuilder(NO_WEED,
-                (weed, tag) -> tag.putString(AgriNBT.WEED, weed.getId()),
-                (tag) -> AgriApi.getWeedRegistry().get(tag.getString(AgriNBT.WEED)).orElse(NO_WEED),
-                CoreHandler::isInitialized,
-                NO_WEED).withRenderUpdate().build();
-
-        this.weedGrowth = this.getAutoSyncedFieldBuilder(NO_GROWTH,
-                (growth, tag) -> tag.putString(AgriNBT.WEED_GROWTH, growth.getId()),
-                (tag) -> AgriApi.getGrowthStageRegistry().get(tag.getString(AgriNBT.WEED_GROWTH)).orElse(NO_GROWTH),
-                CoreHandler::isInitialized,
-                NO_GROWTH).withRenderUpdate().build();
-
-        this.crossCrop = this.getAutoSyncedFieldBuilder(false)
-                .withCallBack(status -> {
+                PackedCropState.EMPTY)
+                .withCallBack(state -> {
                     if (this.getWorld() != null) {
-                        this.getWorld().setBlockState(this.getPosition(), BlockCropSticks.CROSS_CROP.apply(this.getBlockState(), status));
+                        boolean status = PackedCropState.isCrossCrop(state);
+                        if(BlockCropSticks.CROSS_CROP.fetch(this.getBlockState()) != status) {
+                            this.getWorld().setBlockState(this.getPosition(), BlockCropSticks.CROSS_CROP.apply(this.getBlockState(), status));
+                        }
                     }})
                 .withRenderUpdate()
                 .build();
@@ -122,7 +132,66 @@ public class TileEntityCropSticks extends TileEntityBase implements IAgriCrop, I
         // Initialize neighbour cache
         this.neighbours = Maps.newEnumMap(Direction.class);
         Direction.Plane.HORIZONTAL.getDirectionValues().forEach(dir -> neighbours.put(dir, Optional.empty()));
+        this.neighbourBuffer = new IAgriCrop[HORIZONTALS.length];
         this.needsCaching = true;
+
+        // Initialize growth space cache
+        this.obstructions = new BitSet();
+    }
+
+    private static void writeState(long state, CompoundNBT tag) {
+        // Clients never save chunks, tags written on the client leave the save (e.g. pick-block), these use string ids
+        if(EffectiveSide.get().isClient()) {
+            writeLegacyState(state, tag);
+            return;
+        }
+        CropStatePalette palette = CropStatePalette.getInstance(LogicalSide.SERVER);
+        long encoded = palette.encode(state, true);
+        if(encoded == CropStatePalette.INVALID || palette.getUid() == 0) {
+            // The palette of the save is not loaded
+            writeLegacyState(state, tag);
+            return;
+        }
+        tag.putInt(AgriNBT.VERSION, CropStatePalette.FORMAT_VERSION);
+        tag.putLong(AgriNBT.PALETTE, palette.getUid());
+        tag.putLong(AgriNBT.STATE, encoded);
+    }
+
+    private static long readState(CompoundNBT tag) {
+        if(tag.getInt(AgriNBT.VERSION) < CropStatePalette.FORMAT_VERSION) {
+            // Migrate from the string format
+            return readLegacyState(tag);
+        }
+        CropStatePalette palette = CropStatePalette.getInstance();
+        long state = tag.getLong(AgriNBT.STATE);
+        if(palette.isCurrent(tag.getLong(AgriNBT.PALETTE))) {
+            return palette.decode(state);
+        }
+        // Palette ids from another save (e.g. structures) can not be decoded, only the cross crop flag is kept
+        return PackedCropState.setCrossCrop(PackedCropState.EMPTY, PackedCropState.isCrossCrop(state));
+    }
+
+    private static void writeLegacyState(long state, CompoundNBT tag) {
+        tag.putString(AgriNBT.GROWTH, AgriGrowthRegistry.getInstance().getPalette().get(PackedCropState.getGrowth(state)).getId());
+        tag.putString(AgriNBT.WEED, AgriWeedRegistry.getInstance().getPalette().get(PackedCropState.getWeed(state)).getId());
+        tag.putString(AgriNBT.WEED_GROWTH, AgriGrowthRegistry.getInstance().getPalette().get(PackedCropState.getWeedGrowth(state)).getId());
+        tag.putBoolean(AgriNBT.CROSS_CROP, PackedCropState.isCrossCrop(state));
+    }
+
+    private static long readLegacyState(CompoundNBT tag) {
+        long state = PackedCropState.EMPTY;
+        state = PackedCropState.setGrowth(state, growthId(AgriGrowthRegistry.getInstance().getOrNull(tag.getString(AgriNBT.GROWTH))));
+        state = PackedCropState.setWeed(state, weedId(AgriWeedRegistry.getInstance().getOrNull(tag.getString(AgriNBT.WEED))));
+        state = PackedCropState.setWeedGrowth(state, growthId(AgriGrowthRegistry.getInstance().getOrNull(tag.getString(AgriNBT.WEED_GROWTH))));
+        return PackedCropState.setCrossCrop(state, tag.getBoolean(AgriNBT.CROSS_CROP));
+    }
+
+    private static int growthId(@Nullable IAgriGrowthStage stage) {
+        return stage == null ? 0 : AgriGrowthRegistry.getInstance().getPalette().getId(stage);
+    }
+
+    private static int weedId(@Nullable IAgriWeed weed) {
+        return weed == null ? 0 : AgriWeedRegistry.getInstance().getPalette().getId(weed);
     }
 
     // Use neighbour cache instead to prevent having to read TileEntities from the world
@@ -137,6 +206,43 @@ public class TileEntityCropSticks extends TileEntityBase implements IAgriCrop, I
                 .map(Optional::get);
     }
 
+    /**
+     * Copies the cached neighbours to an array, without allocating
+     * @param array the array, must be able to hold four crops
+     * @return the number of neighbours in the array
+     */
+    protected int fillNeighbours(IAgriCrop[] array) {
+        if(this.needsCaching) {
+            this.readNeighbours();
+        }
+        int count = 0;
+        for(Direction dir : HORIZONTALS) {
+            IAgriCrop crop = this.neighbours.get(dir).orElse(null);
+            if(crop != null) {
+                array[count++] = crop;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Checks if any of the neighbours can become a parent for a mutation on this crop
+     * @param engine the active mutation engine
+     * @return true if at least one neighbour can become a parent
+     */
+    public boolean hasEligibleParents(IAgriMutationEngine engine) {
+        if(this.needsCaching) {
+            this.readNeighbours();
+        }
+        for(Direction dir : HORIZONTALS) {
+            IAgriCrop crop = this.neighbours.get(dir).orElse(null);
+            if(crop != null && engine.canBeParent(crop)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     @Override
     public void dropItem(ItemStack item) {
         if(this.getWorld() == null || this.getWorld().isRemote) {
@@ -160,6 +266,8 @@ public class TileEntityCropSticks extends TileEntityBase implements IAgriCrop, I
 
     // Update neighbour cache
     protected void onNeighbourChange(Direction direction, BlockPos pos, BlockState newState) {
+        this.onBlockUpdate(pos, newState);
+        CropTickHandler.getInstance().invalidateCrossCrops(this);
         if(newState.getBlock() instanceof BlockCropSticks) {
             if(this.getWorld() != null) {
                 this.neighbours.put(direction, AgriApi.getCrop(this.getWorld(), pos));
@@ -169,6 +277,55 @@ public class TileEntityCropSticks extends TileEntityBase implements IAgriCrop, I
         }
     }
 
+    // Update the cached states of growth requirements depending on the updated position
+    public void onBlockUpdate(BlockPos pos, BlockState state) {
+        if(this.requirement != null) {
+            this.requirement.onBlockUpdate(pos.subtract(this.getPos()), state);
+        }
+        if(this.clearancePositions != null && pos.getX() == this.getPos().getX() && pos.getZ() == this.getPos().getZ()) {
+            int layer = pos.getY() - this.getPos().getY();
+            if(layer > 0 && layer <= this.clearancePositions.length) {
+                this.resetClearance();
+            }
+        }
+    }
+
+    @Override
+    public void updateContainingBlockInfo() {
+        super.updateContainingBlockInfo();
+        if(this.getWorld() != null) {
+            this.onBlockUpdate(this.getPos(), this.getWorld().getBlockState(this.getPos()));
+        }
+    }
+
+    @Override
+    public void onLoad() {
+        super.onLoad();
+        if(this.getWorld() != null && !this.getWorld().isRemote()) {
+            if(this.legacyCrossCrop) {
+                this.legacyCrossCrop = false;
+                this.state.set(PackedCropState.setCrossCrop(this.state.get(), true));
+            }
+            CropTickHandler.getInstance().registerCrop(this);
+        }
+    }
+
+    @Override
+    public void onChunkUnloaded() {
+        super.onChunkUnloaded();
+        CropTickHandler.getInstance().unregisterCrop(this);
+        this.resetClearance();
+        this.resetGrowthRequirement();
+    }
+
+    @Override
+    public void remove() {
+        super.remove();
+        CropTickHandler.getInstance().unregisterCrop(this);
+        this.resetClearance();
+        this.resetGrowthRequirement();
+    }
+
     @Override
     public boolean isValid() {
         return this.getWorld() != null && !this.isRemoved();
@@ -183,12 +340,12 @@ public class TileEntityCropSticks extends TileEntityBase implements IAgriCrop, I
     @Override
     @Nonnull
     public IAgriGrowthStage getGrowthStage() {
-        return this.growth.get();
+        return AgriGrowthRegistry.getInstance().getPalette().get(PackedCropState.getGrowth(this.state.get()));
     }
 
     @Override
     public boolean setGrowthStage(@Nonnull IAgriGrowthStage stage) {
-        if(this.growth.get().equals(stage)) {
+        if(this.getGrowthStage().equals(stage)) {
             return false;
         }
         if(!this.getPlant().getGrowthStages().contains(stage)) {
@@ -197,32 +354,68 @@ public class TileEntityCropSticks extends TileEntityBase implements IAgriCrop, I
         if(!this.checkGrowthSpace(this.getPlant(), stage)) {
             return false;
         }
-        this.growth.set(stage);
+        this.state.set(PackedCropState.setGrowth(this.state.get(), growthId(stage)));
         this.handlePlantUpdate(false);
         return true;
     }
 
-    @SuppressWarnings("deprecation")
     private boolean checkGrowthSpace(IAgriGrowable plant, IAgriGrowthStage stage) {
         if(this.getWorld() == null) {
             return false;
         }
+        // One layer is checked for every additional 16 pixels of height, the highest one being height / 16
         int height = plant.getPlantHeight(stage);
-        while(height > 16) {
-            int offset = height / 16;
-            BlockPos pos = this.getPos().up(offset);
-            BlockState state = this.getWorld().getBlockState(pos);
-            if(!state.isAir(this.getWorld(), pos)) {
-                return false;
+        int highest = height / 16;
+        int lowest = highest - (height - 1) / 16 + 1;
+        if(lowest > highest) {
+            return true;
+        }
+        if(this.getWorld().isRemote()) {
+            // Clients are not guaranteed to receive all block updates, do not rely on the cache
+            for(int layer = lowest; layer <= highest; layer++) {
+                if(this.isObstructed(layer)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        // Rescan if unknown, if the scan did not reach high enough, or if it expired, as not all block changes notify neighbours
+        long time = this.getWorld().getGameTime();
+        if(this.clearancePositions == null || highest > this.clearancePositions.length || time >= this.clearanceExpiry) {
+            this.resetClearance();
+            this.obstructions.clear();
+            this.clearanceExpiry = time + GrowthRequirement.REVALIDATION_INTERVAL;
+            this.clearancePositions = new BlockPos[highest];
+            for(int layer = 1; layer <= highest; layer++) {
+                this.clearancePositions[layer - 1] = this.getPos().up(layer);
+                this.obstructions.set(layer, this.isObstructed(layer));
+            }
+            GrowthRequirementHandler.getInstance().watch(this, this.clearancePositions);
+        }
+        int obstruction = this.obstructions.nextSetBit(lowest);
+        return obstruction < 0 || obstruction > highest;
+    }
+
+    @SuppressWarnings("deprecation")
+    private boolean isObstructed(int layer) {
+        BlockPos pos = this.getPos().up(layer);
+        return !this.getWorld().getBlockState(pos).isAir(this.getWorld(), pos);
+    }
+
+    protected void resetClearance() {
+        if(this.clearancePositions != null) {
+            GrowthRequirementHandler.getInstance().unwatch(this, this.clearancePositions);
+            this.clearancePositions = null;
+            // Positions are watched once per crop, keep watching those the growth requirement still depends on
+            if(this.watchedPositions != null) {
+                GrowthRequirementHandler.getInstance().watch(this, this.watchedPositions);
             }
-            height -= 16;
         }
-        return true;
     }
 
     @Override
     public boolean isCrossCrop() {
-        return this.crossCrop.get();
+        return PackedCropState.isCrossCrop(this.state.get());
     }
 
     @Override
@@ -236,15 +429,64 @@ public class TileEntityCropSticks extends TileEntityBase implements IAgriCrop, I
         if(this.isCrossCrop() == status) {
             return false;
         }
-        this.crossCrop.set(status);
+        this.state.set(PackedCropState.setCrossCrop(this.state.get(), status));
+        CropTickHandler.getInstance().invalidateCrossCrops(this);
         return true;
     }
 
     @Override
     public boolean isFertile() {
-        return this.getWorld() != null
-                && this.checkGrowthSpace(this.getPlant(), this.getGrowthStage())
-                && this.getPlant().getGrowConditions(this.getGrowthStage()).stream().allMatch(c -> c.isMet(this.getWorld(), this.getPosition()));
+        if(this.getWorld() == null || !this.checkGrowthSpace(this.getPlant(), this.getGrowthStage())) {
+            return false;
+        }
+        if(this.getWorld().isRemote()) {
+            // Clients are not guaranteed to receive all block updates, do not rely on the cache
+            return GrowConditionEvaluator.get(this.getPlant().getGrowConditions(this.getGrowthStage())).isMet(this.getWorld(), this.getPosition(), this.getStrength());
+        }
+        return this.getGrowthRequirement().isMet(this.getWorld(), this.getPosition(), this.getStrength());
+    }
+
+    /**
+     * Traces the fertility check of this crop, to explain why it is fertile or not
+     * @return an optional holding the trace, or empty if the crop has no world
+     */
+    public Optional<FertilityTrace> traceFertility() {
+        if(this.getWorld() == null) {
+            return Optional.empty();
+        }
+        return Optional.of(GrowConditionEvaluator.get(this.getPlant().getGrowConditions(this.getGrowthStage())).trace(
+                this.getWorld(), this.getPosition(), this.getStrength(), this.checkGrowthSpace(this.getPlant(), this.getGrowthStage())));
+    }
+
+    // Grow conditions which this strength overcomes are ignored
+    protected int getStrength() {
+        IAgriStat strength = AgriStatRegistry.getInstance().strengthStat();
+        return this.getStatValue(strength, AgriGeneRegistry.getInstance().getStatOrdinal(strength));
+    }
+
+    protected GrowthRequirement getGrowthRequirement() {
+        Set<IGrowCondition> conditions = this.getPlant().getGrowConditions(this.getGrowthStage());
+        if(this.requirement == null || this.requirementSource != conditions) {
+            this.resetGrowthRequirement();
+            this.requirement = GrowthRequirement.create(conditions);
+            this.requirementSource = conditions;
+            this.watchedPositions = this.requirement.getWatchedOffsets().stream().map(this.getPos()::add).toArray(BlockPos[]::new);
+            GrowthRequirementHandler.getInstance().watch(this, this.watchedPositions);
+        }
+        return this.requirement;
+    }
+
+    protected void resetGrowthRequirement() {
+        if(this.watchedPositions != null) {
+            GrowthRequirementHandler.getInstance().unwatch(this, this.watchedPositions);
+            this.watchedPositions = null;
+            // Positions are watched once per crop, keep watching those the growth space still depends on
+            if(this.clearancePositions != null) {
+                GrowthRequirementHandler.getInstance().watch(this, this.clearancePositions);
+            }
+        }
+        this.requirement = null;
+        this.requirementSource = null;
     }
 
     @Override
@@ -261,8 +503,7 @@ public class TileEntityCropSticks extends TileEntityBase implements IAgriCrop, I
     @Override
     public Optional<IAgriSoil> getSoil() {
         return Optional.ofNullable(this.getWorld())
-                .map(world -> AgriApi.getSoilRegistry().get(world.getBlockState(this.getPosition().down())))
-                .flatMap(soils -> soils.stream().findAny());
+                .flatMap(world -> AgriSoilRegistry.getInstance().getFirst(world.getBlockState(this.getPosition().down())));
     }
 
     @Override
@@ -283,29 +524,41 @@ public class TileEntityCropSticks extends TileEntityBase implements IAgriCrop, I
 
     @Override
     public void applyGrowthTick() {
+        if (this.getWorld() != null) {
+            this.applyGrowthTick(CropTickHandler.getInstance().getContext(this.getWorld()));
+        }
+    }
+
+    /**
+     * Applies a growth tick, reading the shared config and registry values from the context.
+     * This is called by the CropTickHandler for every crop in a batch.
+     *
+     * @param context the context of the current batch
+     */
+    public void applyGrowthTick(CropTickContext context) {
         if (this.getWorld() == null || this.getWorld().isRemote) {
             return;
         }
         // Decide if the weeds receives the growth tick or not
-        if (this.rollForWeedAction()) {
+        if (this.rollForWeedAction(context)) {
             // Weeds have the word
-            this.executeWeedGrowthTick();
+            this.executeWeedGrowthTick(context);
         } else if (this.isCrossCrop()) {
             // mutation tick
             this.executeCrossGrowthTick();
         } else if (this.isFertile()) {
             // plant growth tick
-            this.executePlantGrowthTick();
+            this.executePlantGrowthTick(context);
         }
     }
 
-    protected boolean rollForWeedAction() {
-        if(AgriCraft.instance.getConfig().disableWeeds()) {
+    protected boolean rollForWeedAction(CropTickContext context) {
+        if(context.disableWeeds()) {
             return false;
         }
         if(this.hasPlant()) {
-            int resist = this.getStats().getValue(AgriStatRegistry.getInstance().resistanceStat());
-            int max = AgriStatRegistry.getInstance().resistanceStat().getMax();
+            int resist = this.getStatValue(context.resistanceStat(), context.resistanceOrdinal());
+            int max = context.resistanceMax();
             // At 1 resist, 50/50 chance for weed growth tick
             // At 10 resist, 0% chance
             return  this.getRandom().nextInt(max) >= (max + resist)/2;
@@ -313,7 +566,7 @@ public class TileEntityCropSticks extends TileEntityBase implements IAgriCrop, I
         return this.getRandom().nextBoolean();
     }
 
-    protected void executeWeedGrowthTick() {
+    protected void executeWeedGrowthTick(CropTickContext context) {
         if(!MinecraftForge.EVENT_BUS.post(new AgriCropEvent.Grow.Weeds.Pre(this))) {
             if (!this.hasWeeds()) {
                 //The aren't weeds yet, try to spawn new weeds
@@ -322,9 +575,9 @@ public class TileEntityCropSticks extends TileEntityBase implements IAgriCrop, I
                 // There are weeds already, apply the growth tick
                 if (this.getWeedGrowthStage().isFinal()) {
                     //Weeds are mature, try killing the plant
-                    this.tryWeedKillPlant();
+                    this.tryWeedKillPlant(context);
                     //Weeds are mature, try spreading
-                    this.spreadWeeds();
+                    this.spreadWeeds(context);
                 } else {
                     // Weeds are not mature yet, increment their growth
                     if(this.getRandom().nextDouble() < this.getWeeds().getGrowthChance(this.getWeedGrowthStage())) {
@@ -337,26 +590,29 @@ public class TileEntityCropSticks extends TileEntityBase implements IAgriCrop, I
     }
 
     protected void spawnWeeds() {
-        AgriApi.getWeedRegistry().stream()
-                .filter(IAgriWeed::isWeed)
-                .filter(weed -> this.getRandom().nextDouble() < weed.spawnChance(this))
-                .findAny()
-                .ifPresent(weed -> this.setWeed(weed, weed.getInitialGrowthStage()));
+        IAgriWeed weed = WeedSpawnTable.getInstance().sample(this, this.getRandom());
+        if(weed != null) {
+            this.setWeed(weed, weed.getInitialGrowthStage());
+        }
     }
 
-    protected void spreadWeeds() {
-        if(AgriCraft.instance.getConfig().allowAggressiveWeeds() && this.getWeeds().isAggressive()) {
-            this.streamNeighbours()
-                    .filter(IAgriCrop::isValid)
-                    .filter(crop -> !crop.hasWeeds())
-                    .filter(crop -> this.rollForWeedAction())
-                    .forEach(crop -> crop.setWeed(this.getWeeds(), this.getWeeds().getInitialGrowthStage()));
+    protected void spreadWeeds(CropTickContext context) {
+        if(context.allowAggressiveWeeds() && this.getWeeds().isAggressive()) {
+            if(this.needsCaching) {
+                this.readNeighbours();
+            }
+            for(Direction dir : HORIZONTALS) {
+                IAgriCrop crop = this.neighbours.get(dir).orElse(null);
+                if(crop != null && crop.isValid() && !crop.hasWeeds() && this.rollForWeedAction(context)) {
+                    crop.setWeed(this.getWeeds(), this.getWeeds().getInitialGrowthStage());
+                }
+            }
         }
     }
 
-    protected void tryWeedKillPlant() {
-        if(AgriCraft.instance.getConfig().allowLethalWeeds() && this.getWeeds().isLethal()) {
-            if(this.hasPlant() && this.rollForWeedAction()) {
+    protected void tryWeedKillPlant(CropTickContext context) {
+        if(context.allowLethalWeeds() && this.getWeeds().isLethal()) {
+            if(this.hasPlant() && this.rollForWeedAction(context)) {
                 IAgriGrowthStage current = this.getGrowthStage();
                 IAgriGrowthStage previous = current.getPreviousStage(this, this.getRandom());
                 if(current.equals(previous)) {
@@ -369,17 +625,20 @@ public class TileEntityCropSticks extends TileEntityBase implements IAgriCrop, I
     }
 
     protected void executeCrossGrowthTick() {
-        // Do not do mutation growth ticks if the plant has weeds
-        if(!this.hasWeeds() && !MinecraftForge.EVENT_BUS.post(new AgriCropEvent.Grow.Cross.Pre(this))) {
-            if(AgriApi.getAgriMutationHandler().getActiveMutationEngine().handleMutationTick(this, this.streamNeighbours(), this.getRandom())) {
+        // Do not do mutation growth ticks if the plant has weeds, or if none of the neighbours can become a parent
+        if(!this.hasWeeds() && CropTickHandler.getInstance().hasEligibleParents(this) && !MinecraftForge.EVENT_BUS.post(new AgriCropEvent.Grow.Cross.Pre(this))) {
+            int count = this.fillNeighbours(this.neighbourBuffer);
+            boolean success = AgriApi.getAgriMutationHandler().getActiveMutationEngine().handleMutationTick(this, this.neighbourBuffer, count, this.getRandom());
+            Arrays.fill(this.neighbourBuffer, null);
+            if(success) {
                 MinecraftForge.EVENT_BUS.post(new AgriCropEvent.Grow.Cross.Post(this));
             }
         }
     }
 
-    protected void executePlantGrowthTick() {
+    protected void executePlantGrowthTick(CropTickContext context) {
         if (!this.getGrowthStage().isFinal()) {
-            if (this.calculateGrowthRate() > this.getRandom().nextDouble()
+            if (this.calculateGrowthRate(context) > this.getRandom().nextDouble()
                     && !MinecraftForge.EVENT_BUS.post(new AgriCropEvent.Grow.Plant.Pre(this))) {
                 this.setGrowthStage(this.getGrowthStage().getNextStage(this, this.getRandom()));
                 this.getPlant().onGrowth(this);
@@ -388,10 +647,10 @@ public class TileEntityCropSticks extends TileEntityBase implements IAgriCrop, I
         }
     }
 
-    protected double calculateGrowthRate() {
-        int growth = this.getStats().getValue(AgriStatRegistry.getInstance().growthStat());
+    protected double calculateGrowthRate(CropTickContext context) {
+        int growth = this.getStatValue(context.growthStat(), context.growthOrdinal());
         return this.getPlant().getGrowthChanceBase(this.getGrowthStage())
-            + growth * this.getPlant().getGrowthChanceBonus(this.getGrowthStage()) * AgriCraft.instance.getConfig().growthMultiplier();
+            + growth * this.getPlant().getGrowthChanceBonus(this.getGrowthStage()) * context.growthMultiplier();
     }
 
     @Override
@@ -402,7 +661,16 @@ public class TileEntityCropSticks extends TileEntityBase implements IAgriCrop, I
     @Nonnull
     @Override
     public IAgriStatsMap getStats() {
-        return this.getGenome().map(IAgriStatProvider::getStats).orElse(NO_STATS);
+        IAgriGenome genome = this.getGenome().orElse(null);
+        return genome == null ? NO_STATS : genome.getStats();
+    }
+
+    protected int getStatValue(IAgriStat stat, int ordinal) {
+        IAgriGenome genome = this.getGenome().orElse(null);
+        if(genome instanceof AgriGenome) {
+            return ((AgriGenome) genome).getValue(ordinal, stat);
+        }
+        return this.getStats().getValue(stat);
     }
 
     @Override
@@ -464,40 +732,41 @@ public class TileEntityCropSticks extends TileEntityBase implements IAgriCrop, I
 
     @Override
     public boolean hasPlant() {
-        return this.getGenome().map(IAgriGenome::getPlant).map(IAgriPlant::isPlant).orElse(false);
+        return this.getPlant().isPlant();
     }
 
     @Nonnull
     @Override
     public IAgriPlant getPlant() {
-        return this.getGenome().map(IAgriGenome::getPlant).orElse(NO_PLANT);
+        IAgriGenome genome = this.getGenome().orElse(null);
+        return genome == null ? NO_PLANT : genome.getPlant();
     }
 
     @Override
     public boolean hasWeeds() {
-        return this.weed.get().isWeed();
+        return this.getWeeds().isWeed();
     }
 
     @Nonnull
     @Override
     public IAgriWeed getWeeds() {
-        return this.weed.get();
+        return AgriWeedRegistry.getInstance().getPalette().get(PackedCropState.getWeed(this.state.get()));
     }
 
     @Nonnull
     @Override
     public IAgriGrowthStage getWeedGrowthStage() {
-        return this.weedGrowth.get();
+        return AgriGrowthRegistry.getInstance().getPalette().get(PackedCropState.getWeedGrowth(this.state.get()));
     }
 
     @Override
     public boolean setWeed(@Nonnull IAgriWeed weed, @Nonnull IAgriGrowthStage stage) {
         if(this.getWeeds().equals(weed)) {
-            if(this.weedGrowth.get().equals(stage)) {
+            if(this.getWeedGrowthStage().equals(stage)) {
                 return false;
             }
             if(this.getWeeds().getGrowthStages().contains(stage) && this.checkGrowthSpace(weed, stage)) {
-                this.weedGrowth.set(stage);
+                this.state.set(PackedCropState.setWeedGrowth(this.state.get(), growthId(stage)));
                 this.getWeeds().onGrowthTick(this);
                 this.handlePlantUpdate(false);
                 return true;
@@ -505,8 +774,7 @@ public class TileEntityCropSticks extends TileEntityBase implements IAgriCrop, I
             return false;
         } else if(weed.getGrowthStages().contains(stage) && this.checkGrowthSpace(weed, stage)) {
             if(!MinecraftForge.EVENT_BUS.post(new AgriCropEvent.Spawn.Weed.Pre(this, weed))) {
-                this.weed.set(weed);
-                this.weedGrowth.set(stage);
+                this.state.set(PackedCropState.setWeedGrowth(PackedCropState.setWeed(this.state.get(), weedId(weed)), growthId(stage)));
                 this.getWeeds().onSpawned(this);
                 this.handlePlantUpdate(false);
                 MinecraftForge.EVENT_BUS.post(new AgriCropEvent.Spawn.Weed.Post(this, weed));
@@ -519,8 +787,7 @@ public class TileEntityCropSticks extends TileEntityBase implements IAgriCrop, I
     @Override
     public boolean removeWeed() {
         if(this.hasWeeds()) {
-            this.weed.set(NO_WEED);
-            this.weedGrowth.set(NO_GROWTH);
+            this.state.set(PackedCropState.setWeedGrowth(PackedCropState.setWeed(this.state.get(), weedId(NO_WEED)), growthId(NO_GROWTH)));
             this.handlePlantUpdate(false);
             return true;
         }
@@ -561,7 +828,7 @@ public class TileEntityCropSticks extends TileEntityBase implements IAgriCrop, I
 
     protected void setGenomeImpl(@Nonnull IAgriGenome genome) {
         this.genome.set(Optional.of(genome));
-        this.growth.set(genome.getPlant().getInitialGrowthStage());
+        this.state.set(PackedCropState.setGrowth(this.state.get(), growthId(genome.getPlant().getInitialGrowthStage())));
         this.handlePlantUpdate(true);
     }
 
@@ -596,10 +863,15 @@ public class TileEntityCropSticks extends TileEntityBase implements IAgriCrop, I
         // No need to read anything since everything is covered by the AutoSyncedFields
         // A cache update will be required though (either on the client, or on the server after being loaded)
         this.needsCaching = true;
+        // Crops saved before the cross crop flag was stored in the packed state only have it in the block state
+        this.legacyCrossCrop = !tag.contains(AgriNBT.CROSS_CROP) && !tag.contains(AgriNBT.STATE) && BlockCropSticks.CROSS_CROP.fetch(state);
+        this.resetClearance();
+        this.resetGrowthRequirement();
     }
 
     protected void handlePlantUpdate(boolean resetBrightness)  {
         if(this.getWorld() != null) {
+            CropTickHandler.getInstance().invalidateCrossCrops(this);
             BlockState state = this.getBlockState();
             boolean plant = this.hasPlant() || this.hasWeeds();
             if(resetBrightness && BlockCropSticks.LIGHT.fetch(state) > 0) {
@@ -86,11 +86,8 @@ public class ItemTrowel extends ItemBase implements IAgriTrowelItem {
         if(tag == null) {
             return Optional.empty();
         }
-        IAgriGenome genome = AgriApi.getAgriGenomeBuilder(NO_PLANT).build();
-        if(!genome.readFromNBT(tag.getCompound(AgriNBT.GENOME))) {
-            return Optional.empty();
-        }
-        return genome.getPlant().isPlant() ? Optional.of(genome) : Optional.empty();
+        IAgriGenome genome = AgriApi.getAgriGenomeBuilder(NO_PLANT).readFromNBT(tag.getCompound(AgriNBT.GENOME)).build();
+        return genome.hasPlant() ? Optional.of(genome) : Optional.empty();
     }
 
     @Override
@@ -0,0 +1,188 @@
+package com.infinityraider.agricraft.handler;
+
+import com.google.common.collect.ImmutableList;
+import com.infinityraider.agricraft.AgriCraft;
+import com.infinityraider.agricraft.api.v1.AgriApi;
+import com.infinityraider.agricraft.api.v1.genetics.IAgriBreedingPlanner;
+import com.infinityraider.agricraft.api.v1.genetics.IAgriGenome;
+import com.infinityraider.agricraft.api.v1.genetics.IAgriMutation;
+import com.infinityraider.agricraft.api.v1.plant.IAgriPlant;
+import com.infinityraider.agricraft.content.core.TileEntityCropSticks;
+import com.infinityraider.agricraft.impl.v1.genetics.BreedingSimulator;
+import com.infinityraider.agricraft.reference.Reference;
+import com.mojang.brigadier.arguments.IntegerArgumentType;
+import com.mojang.brigadier.arguments.StringArgumentType;
+import com.mojang.brigadier.builder.LiteralArgumentBuilder;
+import com.mojang.brigadier.context.CommandContext;
+import com.mojang.brigadier.exceptions.CommandSyntaxException;
+import net.minecraft.command.CommandSource;
+import net.minecraft.command.Commands;
+import net.minecraft.command.ISuggestionProvider;
+import net.minecraft.command.arguments.BlockPosArgument;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.text.IFormattableTextComponent;
+import net.minecraft.util.text.StringTextComponent;
+import net.minecraft.util.text.TranslationTextComponent;
+import net.minecraftforge.event.RegisterCommandsEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Registers the /agricraft command and its sub commands
+ */
+public class CommandHandler {
+    private static final CommandHandler INSTANCE = new CommandHandler();
+
+    public static CommandHandler getInstance() {
+        return INSTANCE;
+    }
+
+    private static final String ARG_PLANT = "plant";
+    private static final String ARG_TARGET = "target";
+    private static final String ARG_POS = "pos";
+
+    private static final int SIMULATION_TRIALS = 1000;
+    private static final int SIMULATION_GENERATIONS = 1000;
+    private static final long SIMULATION_SEED = 0;
+    private static final long SIMULATION_TIME_LIMIT = 60;
+
+    // Simulations run on their own pool, one at a time, so they can not starve the common pool used by the server
+    private final ForkJoinPool simulationPool;
+    private final AtomicBoolean simulating;
+
+    private CommandHandler() {
+        this.simulationPool = new ForkJoinPool(Math.max(1, Runtime.getRuntime().availableProcessors() / 2));
+        this.simulating = new AtomicBoolean(false);
+    }
+
+    @SubscribeEvent
+    @SuppressWarnings("unused")
+    public void onRegisterCommands(RegisterCommandsEvent event) {
+        LiteralArgumentBuilder<CommandSource> root = Commands.literal(Reference.MOD_ID)
+                .requires(source -> source.hasPermissionLevel(2))
+                .then(Commands.literal("plan")
+                        .then(Commands.argument(ARG_PLANT, StringArgumentType.greedyString())
+                                .suggests((context, builder) -> ISuggestionProvider.suggest(AgriApi.getPlantRegistry().ids(), builder))
+                                .executes(this::plan)))
+                .then(Commands.literal("simulate")
+                        .then(Commands.argument(ARG_TARGET, IntegerArgumentType.integer(1))
+                                .then(Commands.argument(ARG_PLANT, StringArgumentType.greedyString())
+                                        .suggests((context, builder) -> ISuggestionProvider.suggest(AgriApi.getPlantRegistry().ids(), builder))
+                                        .executes(this::simulate))))
+                .then(Commands.literal("trace")
+                        .then(Commands.argument(ARG_POS, BlockPosArgument.blockPos())
+                                .executes(this::trace)));
+        event.getDispatcher().register(root);
+    }
+
+    private Optional<IAgriPlant> getPlant(CommandContext<CommandSource> context) {
+        String id = StringArgumentType.getString(context, ARG_PLANT);
+        Optional<IAgriPlant> plant = AgriApi.getPlantRegistry().get(id);
+        if(!plant.isPresent()) {
+            context.getSource().sendErrorMessage(new TranslationTextComponent("agricraft.command.unknown_plant", id));
+        }
+        return plant;
+    }
+
+    private int plan(CommandContext<CommandSource> context) {
+        Optional<IAgriPlant> target = this.getPlant(context);
+        if(!target.isPresent()) {
+            return 0;
+        }
+        CommandSource source = context.getSource();
+        Optional<IAgriBreedingPlanner.Plan> optional = AgriApi.getBreedingPlanner().getPlan(target.get());
+        if(!optional.isPresent()) {
+            source.sendErrorMessage(new TranslationTextComponent("agricraft.command.plan.none", target.get().getPlantName()));
+            return 0;
+        }
+        IAgriBreedingPlanner.Plan plan = optional.get();
+        source.sendFeedback(new TranslationTextComponent("agricraft.command.plan.header",
+                plan.getTarget().getPlantName(), String.format("%.1f", plan.getCost())), false);
+        source.sendFeedback(new TranslationTextComponent("agricraft.command.plan.start", this.join(plan.getStartingPlants().iterator(), ", ")), false);
+        List<IAgriMutation> steps = plan.getSteps();
+        for(int i = 0; i < steps.size(); i++) {
+            IAgriMutation mutation = steps.get(i);
+            source.sendFeedback(new TranslationTextComponent("agricraft.command.plan.step", i + 1,
+                    this.join(mutation.getParents().iterator(), " + "), mutation.getChild().getPlantName(),
+                    String.format("%.1f", 100 * mutation.getChance())), false);
+        }
+        return steps.size() + 1;
+    }
+
+    private int simulate(CommandContext<CommandSource> context) {
+        Optional<IAgriPlant> plant = this.getPlant(context);
+        if(!plant.isPresent()) {
+            return 0;
+        }
+        CommandSource source = context.getSource();
+        int target = IntegerArgumentType.getInteger(context, ARG_TARGET);
+        // Two parents of the plant with default stats
+        IAgriGenome genome = AgriApi.getAgriGenomeBuilder(plant.get()).build();
+        BreedingSimulator simulator = new BreedingSimulator(AgriApi.getAgriMutationHandler().getActiveMutationEngine(),
+                ImmutableList.of(genome, genome), BreedingSimulator.allStatsAtLeast(target), SIMULATION_GENERATIONS);
+        if(!this.simulating.compareAndSet(false, true)) {
+            source.sendErrorMessage(new TranslationTextComponent("agricraft.command.simulate.busy"));
+            return 0;
+        }
+        source.sendFeedback(new TranslationTextComponent("agricraft.command.simulate.start", SIMULATION_TRIALS), false);
+        // Run off the server thread, and report back on it
+        CompletableFuture.supplyAsync(() -> simulator.run(SIMULATION_TRIALS, SIMULATION_SEED, this.simulationPool,
+                SIMULATION_TIME_LIMIT, TimeUnit.SECONDS), this.simulationPool).whenComplete((result, error) -> {
+            this.simulating.set(false);
+            source.getServer().execute(() -> {
+                if(error == null) {
+                    source.sendFeedback(new TranslationTextComponent("agricraft.command.simulate.result",
+                            result.getSuccesses(), result.getTrials(), result.getMedian(), result.getPercentile(95)), false);
+                } else {
+                    this.reportSimulationError(source, error);
+                }
+            });
+        });
+        return 1;
+    }
+
+    private void reportSimulationError(CommandSource source, Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if(cause instanceof CancellationException) {
+            source.sendErrorMessage(new TranslationTextComponent("agricraft.command.simulate.timeout", SIMULATION_TIME_LIMIT));
+        } else {
+            AgriCraft.instance.getLogger().error("Breeding simulation failed: " + cause);
+            source.sendErrorMessage(new TranslationTextComponent("agricraft.command.simulate.failed", String.valueOf(cause.getMessage())));
+        }
+    }
+
+    private int trace(CommandContext<CommandSource> context) throws CommandSyntaxException {
+        CommandSource source = context.getSource();
+        BlockPos pos = BlockPosArgument.getLoadedBlockPos(context, ARG_POS);
+        TileEntity tile = source.getWorld().getTileEntity(pos);
+        if(!(tile instanceof TileEntityCropSticks)) {
+            source.sendErrorMessage(new TranslationTextComponent("agricraft.command.trace.no_crop", pos.getX(), pos.getY(), pos.getZ()));
+            return 0;
+        }
+        return ((TileEntityCropSticks) tile).traceFertility().map(trace -> {
+            trace.addDisplayInfo(line -> source.sendFeedback(line, false));
+            return trace.isFertile() ? 1 : 0;
+        }).orElse(0);
+    }
+
+    private IFormattableTextComponent join(Iterator<IAgriPlant> plants, String separator) {
+        IFormattableTextComponent text = new StringTextComponent("");
+        while(plants.hasNext()) {
+            text.append(plants.next().getPlantName());
+            if(plants.hasNext()) {
+                text.appendString(separator);
+            }
+        }
+        return text;
+    }
+}
@@ -0,0 +1,41 @@
+package com.infinityraider.agricraft.handler;
+
+import com.infinityraider.agricraft.content.core.CropStatePalette;
+import com.infinityraider.agricraft.network.MessageSyncCropPalette;
+import net.minecraft.entity.player.ServerPlayerEntity;
+import net.minecraft.world.World;
+import net.minecraft.world.server.ServerWorld;
+import net.minecraftforge.event.entity.player.PlayerEvent;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.eventbus.api.EventPriority;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.LogicalSide;
+
+public class CropPaletteHandler {
+    private static final CropPaletteHandler INSTANCE = new CropPaletteHandler();
+
+    public static CropPaletteHandler getInstance() {
+        return INSTANCE;
+    }
+
+    private CropPaletteHandler() {}
+
+    // The palette must be loaded before any crops are read from the saved chunks
+    @SubscribeEvent(priority = EventPriority.HIGHEST)
+    @SuppressWarnings("unused")
+    public void onWorldLoad(WorldEvent.Load event) {
+        if(event.getWorld() instanceof ServerWorld) {
+            ServerWorld world = (ServerWorld) event.getWorld();
+            if(world.getDimensionKey() == World.OVERWORLD) {
+                CropStatePalette.getInstance(LogicalSide.SERVER).load(world);
+            }
+        }
+    }
+
+    @SubscribeEvent
+    @SuppressWarnings("unused")
+    public void onConnect(PlayerEvent.PlayerLoggedInEvent event) {
+        ServerPlayerEntity player = (ServerPlayerEntity) event.getPlayer();
+        new MessageSyncCropPalette(CropStatePalette.getInstance(LogicalSide.SERVER).writeToTag()).sendTo(player);
+    }
+}
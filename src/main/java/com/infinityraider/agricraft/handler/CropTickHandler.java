@@ -0,0 +1,492 @@
+package com.infinityraider.agricraft.handler;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import com.infinityraider.agricraft.api.v1.AgriApi;
+import com.infinityraider.agricraft.api.v1.genetics.IAgriMutationEngine;
+import com.infinityraider.agricraft.content.core.CropTickContext;
+import com.infinityraider.agricraft.content.core.TileEntityCropSticks;
+import it.unimi.dsi.fastutil.longs.Long2BooleanMap;
+import it.unimi.dsi.fastutil.longs.Long2BooleanOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.util.Direction;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.GameRules;
+import net.minecraft.world.World;
+import net.minecraft.world.server.ServerWorld;
+import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Schedules the growth ticks for crop sticks.
+ *
+ * Instead of relying on vanilla random ticks, which resolve the crop for every single block, crops are indexed per chunk
+ * and all crops in a chunk receive their growth ticks in one batch, while respecting the random tick speed game rule.
+ *
+ * Additionally, it is cached for every cross crop whether any of its neighbours can become a parent, so that the mutation
+ * ticks of idle cross crops can be skipped without evaluating their neighbours.
+ */
+public class CropTickHandler {
+    private static final CropTickHandler INSTANCE = new CropTickHandler();
+
+    public static CropTickHandler getInstance() {
+        return INSTANCE;
+    }
+
+    /** Vanilla picks random tick speed blocks from every 16x16x16 chunk section each tick */
+    private static final int SECTION_VOLUME = 16*16*16;
+
+    /** Vanilla only random ticks chunks with their centre within 128 blocks of a player */
+    private static final double RANDOM_TICK_RANGE_SQ = 128*128;
+
+    /** Amount of world ticks over which the performance counters are averaged */
+    private static final int COUNTER_INTERVAL = 20;
+
+    private static final Direction[] HORIZONTALS = {Direction.NORTH, Direction.EAST, Direction.SOUTH, Direction.WEST};
+
+    private final Map<World, WorldData> worlds;
+
+    private CropTickHandler() {
+        this.worlds = Maps.newIdentityHashMap();
+    }
+
+    public void registerCrop(TileEntityCropSticks crop) {
+        World world = crop.getWorld();
+        if(world instanceof ServerWorld) {
+            this.worlds.computeIfAbsent(world, WorldData::new).register(crop);
+        }
+    }
+
+    public void unregisterCrop(TileEntityCropSticks crop) {
+        World world = crop.getWorld();
+        if(world != null) {
+            WorldData data = this.worlds.get(world);
+            if(data != null) {
+                data.unregister(crop);
+            }
+        }
+    }
+
+    /**
+     * Checks if a cross crop has neighbours which can become a parent, the result is cached until it is invalidated
+     * @param crop the cross crop
+     * @return false if the mutation tick of the cross crop can be skipped
+     */
+    public boolean hasEligibleParents(TileEntityCropSticks crop) {
+        WorldData data = this.worlds.get(crop.getWorld());
+        return data == null || data.hasEligibleParents(crop);
+    }
+
+    /**
+     * Must be called whenever the contents of a crop change, invalidates the cached state of the crop and its neighbours
+     * @param crop the crop
+     */
+    public void invalidateCrossCrops(TileEntityCropSticks crop) {
+        World world = crop.getWorld();
+        if(world != null) {
+            WorldData data = this.worlds.get(world);
+            if(data != null) {
+                data.invalidate(crop.getPos());
+            }
+        }
+    }
+
+    /**
+     * Fetches the context shared by the growth ticks in a world, for growth ticks which are applied outside of a batch
+     * @param world the world
+     * @return the context of the world's batches, or a new context if no crops are indexed for the world
+     */
+    public CropTickContext getContext(World world) {
+        WorldData data = this.worlds.get(world);
+        return data == null ? CropTickContext.create() : data.context;
+    }
+
+    public Optional<WorldData> getWorldData(World world) {
+        return Optional.ofNullable(this.worlds.get(world));
+    }
+
+    @SubscribeEvent
+    @SuppressWarnings("unused")
+    public void onWorldTick(TickEvent.WorldTickEvent event) {
+        if(event.phase != TickEvent.Phase.END || !(event.world instanceof ServerWorld)) {
+            return;
+        }
+        WorldData data = this.worlds.get(event.world);
+        if(data != null) {
+            data.tick((ServerWorld) event.world);
+        }
+    }
+
+    @SubscribeEvent
+    @SuppressWarnings("unused")
+    public void onWorldUnload(WorldEvent.Unload event) {
+        if(event.getWorld() instanceof World) {
+            this.worlds.remove(event.getWorld());
+        }
+    }
+
+    public static class WorldData {
+        private final World world;
+        // Chunks by their key, and in a list to iterate over them, entries know their index in the list
+        private final Long2ObjectMap<ChunkEntry> chunks;
+        private final List<ChunkEntry> chunkList;
+        private final CropTickContext context;
+
+        // Changes to the index during a batch are deferred until the batch is finished
+        private boolean ticking;
+        private final Set<TileEntityCropSticks> pendingAdditions;
+        private final Set<TileEntityCropSticks> pendingRemovals;
+
+        // Reusable buffer for the horizontal positions of the players which can cause random ticks
+        private double[] players;
+
+        // Reusable buffer to iterate over the crops in a chunk
+        private TileEntityCropSticks[] buffer;
+
+        // Cached eligibility of the cross crops, evaluated lazily for the active mutation engine
+        private final Long2BooleanMap crossCrops;
+        private IAgriMutationEngine engine;
+        private long skippedTicks;
+
+        // Performance counters
+        private long totalTicks;
+        private int windowAge;
+        private int windowTicks;
+        private int windowBatches;
+        private long windowNanos;
+        private long windowMaxNanos;
+        private int ticksPerSecond;
+        private long averageChunkNanos;
+        private long maxChunkNanos;
+
+        private WorldData(World world) {
+            this.world = world;
+            this.chunks = new Long2ObjectOpenHashMap<>();
+            this.chunkList = Lists.newArrayList();
+            this.context = CropTickContext.create();
+            this.pendingAdditions = Sets.newLinkedHashSet();
+            this.pendingRemovals = Sets.newLinkedHashSet();
+            this.players = new double[8];
+            this.buffer = new TileEntityCropSticks[16];
+            this.crossCrops = new Long2BooleanOpenHashMap();
+        }
+
+        public World getWorld() {
+            return this.world;
+        }
+
+        protected void register(TileEntityCropSticks crop) {
+            this.invalidate(crop.getPos());
+            if(this.ticking) {
+                this.pendingRemovals.remove(crop);
+                this.pendingAdditions.add(crop);
+            } else {
+                long key = chunkKey(crop.getPos());
+                ChunkEntry entry = this.chunks.get(key);
+                if(entry == null) {
+                    entry = new ChunkEntry(new ChunkPos(crop.getPos()), this.chunkList.size());
+                    this.chunks.put(key, entry);
+                    this.chunkList.add(entry);
+                }
+                entry.add(crop);
+            }
+        }
+
+        protected void unregister(TileEntityCropSticks crop) {
+            this.invalidate(crop.getPos());
+            if(this.ticking) {
+                this.pendingAdditions.remove(crop);
+                this.pendingRemovals.add(crop);
+            } else {
+                long key = chunkKey(crop.getPos());
+                ChunkEntry entry = this.chunks.get(key);
+                if(entry != null && entry.remove(crop) && entry.isEmpty()) {
+                    this.chunks.remove(key);
+                    this.removeChunk(entry);
+                }
+            }
+        }
+
+        protected boolean hasEligibleParents(TileEntityCropSticks crop) {
+            IAgriMutationEngine engine = AgriApi.getAgriMutationHandler().getActiveMutationEngine();
+            if(engine != this.engine) {
+                this.crossCrops.clear();
+                this.engine = engine;
+            }
+            long key = crop.getPos().toLong();
+            boolean eligible;
+            if(this.crossCrops.containsKey(key)) {
+                eligible = this.crossCrops.get(key);
+            } else {
+                eligible = crop.hasEligibleParents(engine);
+                this.crossCrops.put(key, eligible);
+            }
+            if(!eligible) {
+                this.skippedTicks++;
+            }
+            return eligible;
+        }
+
+        protected void invalidate(BlockPos pos) {
+            long key = pos.toLong();
+            this.crossCrops.remove(key);
+            for(Direction dir : HORIZONTALS) {
+                this.crossCrops.remove(BlockPos.offset(key, dir));
+            }
+        }
+
+        protected void tick(ServerWorld world) {
+            int speed = world.getGameRules().getInt(GameRules.RANDOM_TICK_SPEED);
+            if(speed > 0) {
+                this.context.refresh();
+                int playerCount = this.collectPlayers(world);
+                this.ticking = true;
+                // Iterate by index to avoid allocating an iterator every tick
+                for (int i = 0; i < this.chunkList.size(); i++) {
+                    ChunkEntry entry = this.chunkList.get(i);
+                    // Only chunks which would receive vanilla random ticks are ticked
+                    if (!this.isRandomTicked(world, entry.getPos(), playerCount)) {
+                        continue;
+                    }
+                    long start = System.nanoTime();
+                    this.windowTicks += this.tickChunk(entry, world.getRandom(), speed);
+                    long duration = System.nanoTime() - start;
+                    this.windowBatches++;
+                    this.windowNanos += duration;
+                    this.windowMaxNanos = Math.max(this.windowMaxNanos, duration);
+                }
+                this.ticking = false;
+                this.processPending();
+            }
+            this.updateCounters();
+        }
+
+        // Same conditions as vanilla: the chunk must be entity ticking and within the spawning radius of a player
+        protected boolean isRandomTicked(ServerWorld world, ChunkPos pos, int playerCount) {
+            if(!world.getChunkProvider().isChunkLoaded(pos)) {
+                return false;
+            }
+            double x = pos.getXStart() + 8;
+            double z = pos.getZStart() + 8;
+            for(int i = 0; i < playerCount; i++) {
+                double dx = x - this.players[2*i];
+                double dz = z - this.players[2*i + 1];
+                if(dx*dx + dz*dz < RANDOM_TICK_RANGE_SQ) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        // Collects the horizontal positions of the non-spectator players, returns the number of players
+        protected int collectPlayers(ServerWorld world) {
+            List<? extends PlayerEntity> players = world.getPlayers();
+            if(this.players.length < 2*players.size()) {
+                this.players = new double[Math.max(2*players.size(), 2*this.players.length)];
+            }
+            int count = 0;
+            for(int i = 0; i < players.size(); i++) {
+                PlayerEntity player = players.get(i);
+                if(!player.isSpectator()) {
+                    this.players[2*count] = player.getPosX();
+                    this.players[2*count + 1] = player.getPosZ();
+                    count++;
+                }
+            }
+            return count;
+        }
+
+        protected int tickChunk(ChunkEntry entry, Random random, int speed) {
+            // Copy to the buffer, as growth ticks may cause crops to be added or removed
+            int count = entry.copyTo(this);
+            int ticked = 0;
+            for(int i = 0; i < count; i++) {
+                TileEntityCropSticks crop = this.buffer[i];
+                this.buffer[i] = null;
+                // Roll once for every full section volume covered by the random tick speed
+                for(int rolls = speed; rolls > 0; rolls -= SECTION_VOLUME) {
+                    if(random.nextInt(SECTION_VOLUME) < rolls && !crop.isRemoved()) {
+                        crop.applyGrowthTick(this.context);
+                        ticked++;
+                    }
+                }
+            }
+            return ticked;
+        }
+
+        protected void processPending() {
+            this.pendingRemovals.forEach(this::unregister);
+            this.pendingRemovals.clear();
+            this.pendingAdditions.forEach(this::register);
+            this.pendingAdditions.clear();
+        }
+
+        protected void updateCounters() {
+            this.windowAge++;
+            if(this.windowAge >= COUNTER_INTERVAL) {
+                this.totalTicks += this.windowTicks;
+                this.ticksPerSecond = (20 * this.windowTicks) / this.windowAge;
+                this.averageChunkNanos = this.windowBatches > 0 ? this.windowNanos / this.windowBatches : 0;
+                this.maxChunkNanos = this.windowMaxNanos;
+                this.windowAge = 0;
+                this.windowTicks = 0;
+                this.windowBatches = 0;
+                this.windowNanos = 0;
+                this.windowMaxNanos = 0;
+            }
+        }
+
+        /**
+         * @return the number of crops currently indexed for this world
+         */
+        public int getCropCount() {
+            return this.chunkList.stream().mapToInt(ChunkEntry::size).sum();
+        }
+
+        /**
+         * @return the number of cross crops for which the eligibility of their neighbours is currently cached
+         */
+        public int getCrossCropCount() {
+            return this.crossCrops.size();
+        }
+
+        /**
+         * @return the total number of mutation ticks which were skipped because the cross crop had no eligible parents
+         */
+        public long getSkippedMutationTicks() {
+            return this.skippedTicks;
+        }
+
+        /**
+         * @return the number of chunks which currently hold crops in this world
+         */
+        public int getChunkCount() {
+            return this.chunks.size();
+        }
+
+        /**
+         * @return the total number of growth ticks handed out in this world
+         */
+        public long getTotalTicks() {
+            return this.totalTicks;
+        }
+
+        /**
+         * @return the number of growth ticks handed out per second, averaged over the last second
+         */
+        public int getTicksPerSecond() {
+            return this.ticksPerSecond;
+        }
+
+        /**
+         * @return the average time in nanoseconds spent ticking the crops of a single chunk during the last second
+         */
+        public long getAverageChunkNanos() {
+            return this.averageChunkNanos;
+        }
+
+        /**
+         * @return the maximum time in nanoseconds spent ticking the crops of a single chunk during the last second
+         */
+        public long getMaxChunkNanos() {
+            return this.maxChunkNanos;
+        }
+
+        // Swaps the last entry into the place of the removed entry, the order in which chunks are ticked does not matter
+        private void removeChunk(ChunkEntry entry) {
+            ChunkEntry last = this.chunkList.remove(this.chunkList.size() - 1);
+            if(last != entry) {
+                last.index = entry.index;
+                this.chunkList.set(entry.index, last);
+            }
+        }
+
+        private TileEntityCropSticks[] getBuffer(int size) {
+            if(this.buffer.length < size) {
+                this.buffer = Arrays.copyOf(this.buffer, Math.max(size, 2*this.buffer.length));
+            }
+            return this.buffer;
+        }
+
+        private static long chunkKey(BlockPos pos) {
+            return ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4);
+        }
+    }
+
+    protected static class ChunkEntry {
+        private final ChunkPos pos;
+        // Index of this entry in the chunk list of the world
+        private int index;
+
+        // Crops in an array, with the index of every crop, so crops can be added and removed in constant time
+        private TileEntityCropSticks[] crops;
+        private int size;
+        private final Reference2IntMap<TileEntityCropSticks> indices;
+
+        private ChunkEntry(ChunkPos pos, int index) {
+            this.pos = pos;
+            this.index = index;
+            this.crops = new TileEntityCropSticks[16];
+            this.indices = new Reference2IntOpenHashMap<>();
+            this.indices.defaultReturnValue(-1);
+        }
+
+        public ChunkPos getPos() {
+            return this.pos;
+        }
+
+        public int size() {
+            return this.size;
+        }
+
+        public boolean isEmpty() {
+            return this.size == 0;
+        }
+
+        protected void add(TileEntityCropSticks crop) {
+            if(this.indices.containsKey(crop)) {
+                return;
+            }
+            if(this.size == this.crops.length) {
+                this.crops = Arrays.copyOf(this.crops, 2*this.size);
+            }
+            this.indices.put(crop, this.size);
+            this.crops[this.size++] = crop;
+        }
+
+        protected boolean remove(TileEntityCropSticks crop) {
+            int index = this.indices.removeInt(crop);
+            if(index < 0) {
+                return false;
+            }
+            // Move the last crop into the gap, the order in which crops are ticked does not matter
+            TileEntityCropSticks last = this.crops[--this.size];
+            this.crops[this.size] = null;
+            if(last != crop) {
+                this.crops[index] = last;
+                this.indices.put(last, index);
+            }
+            return true;
+        }
+
+        protected int copyTo(WorldData data) {
+            TileEntityCropSticks[] buffer = data.getBuffer(this.size);
+            System.arraycopy(this.crops, 0, buffer, 0, this.size);
+            return this.size;
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.infinityraider.agricraft.handler;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.infinityraider.agricraft.content.core.TileEntityCropSticks;
+import com.infinityraider.agricraft.impl.v1.requirement.AgriSoilRegistry;
+import com.infinityraider.agricraft.impl.v1.requirement.AmbientCache;
+import com.infinityraider.agricraft.impl.v1.requirement.EntityCountCache;
+import com.infinityraider.agricraft.impl.v1.requirement.StructureCache;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.IWorld;
+import net.minecraft.world.World;
+import net.minecraftforge.event.TagsUpdatedEvent;
+import net.minecraftforge.event.TickEvent;
+import net.minecraftforge.event.world.BlockEvent;
+import net.minecraftforge.event.world.ChunkEvent;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.eventbus.api.EventPriority;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps track of which crops depend on which block positions for their growth requirements and growth space.
+ *
+ * Whenever a block is changed, only the crops watching that position are notified, so they can update the cached states
+ * of their growth requirements and growth space without having to re-check every position.
+ * It also keeps the world level caches used to evaluate growth requirements in sync with loaded chunks, worlds and tags.
+ */
+public class GrowthRequirementHandler {
+    private static final GrowthRequirementHandler INSTANCE = new GrowthRequirementHandler();
+
+    public static GrowthRequirementHandler getInstance() {
+        return INSTANCE;
+    }
+
+    private final Map<IWorld, Map<BlockPos, List<TileEntityCropSticks>>> watchers;
+
+    private GrowthRequirementHandler() {
+        this.watchers = Maps.newIdentityHashMap();
+    }
+
+    /**
+     * Starts watching positions for a crop
+     *
+     * @param crop the crop
+     * @param positions the absolute positions the crop depends on
+     */
+    public void watch(TileEntityCropSticks crop, BlockPos[] positions) {
+        if(crop.getWorld() == null || crop.getWorld().isRemote()) {
+            return;
+        }
+        Map<BlockPos, List<TileEntityCropSticks>> map = this.watchers.computeIfAbsent(crop.getWorld(), world -> Maps.newHashMap());
+        for(BlockPos pos : positions) {
+            List<TileEntityCropSticks> crops = map.computeIfAbsent(pos, key -> Lists.newArrayListWithCapacity(1));
+            if(!crops.contains(crop)) {
+                crops.add(crop);
+            }
+        }
+    }
+
+    /**
+     * Stops watching positions for a crop
+     *
+     * @param crop the crop
+     * @param positions the absolute positions the crop was watching
+     */
+    public void unwatch(TileEntityCropSticks crop, BlockPos[] positions) {
+        if(crop.getWorld() == null) {
+            return;
+        }
+        Map<BlockPos, List<TileEntityCropSticks>> map = this.watchers.get(crop.getWorld());
+        if(map == null) {
+            return;
+        }
+        for(BlockPos pos : positions) {
+            List<TileEntityCropSticks> crops = map.get(pos);
+            if(crops != null && crops.remove(crop) && crops.isEmpty()) {
+                map.remove(pos);
+            }
+        }
+    }
+
+    /**
+     * @param world the world
+     * @return the number of block positions which are being watched in the world
+     */
+    public int getWatchedCount(IWorld world) {
+        Map<BlockPos, List<TileEntityCropSticks>> map = this.watchers.get(world);
+        return map == null ? 0 : map.size();
+    }
+
+    @SubscribeEvent
+    @SuppressWarnings("unused")
+    public void onBlockUpdate(BlockEvent.NeighborNotifyEvent event) {
+        Map<BlockPos, List<TileEntityCropSticks>> map = this.watchers.get(event.getWorld());
+        if(map == null) {
+            return;
+        }
+        List<TileEntityCropSticks> crops = map.get(event.getPos());
+        if(crops == null) {
+            return;
+        }
+        // Crops may unwatch while being notified, therefore iterate backwards
+        for(int i = crops.size() - 1; i >= 0; i--) {
+            if(i < crops.size()) {
+                crops.get(i).onBlockUpdate(event.getPos(), event.getState());
+            }
+        }
+    }
+
+    @SubscribeEvent
+    @SuppressWarnings("unused")
+    public void onTagsUpdated(TagsUpdatedEvent event) {
+        // Soil variants may be defined by tags
+        AgriSoilRegistry.getInstance().invalidateIndex();
+    }
+
+    // After the crop ticks of the world, which also run at the end of the world tick
+    @SubscribeEvent(priority = EventPriority.LOWEST)
+    @SuppressWarnings("unused")
+    public void onWorldTick(TickEvent.WorldTickEvent event) {
+        if(event.phase == TickEvent.Phase.END) {
+            EntityCountCache.getInstance().onWorldTickEnd(event.world);
+        }
+    }
+
+    @SubscribeEvent
+    @SuppressWarnings("unused")
+    public void onChunkLoad(ChunkEvent.Load event) {
+        StructureCache.getInstance().onChunkLoaded(event.getWorld(), event.getChunk());
+    }
+
+    @SubscribeEvent
+    @SuppressWarnings("unused")
+    public void onChunkUnload(ChunkEvent.Unload event) {
+        StructureCache.getInstance().onChunkUnloaded(event.getWorld(), event.getChunk().getPos());
+    }
+
+    @SubscribeEvent
+    @SuppressWarnings("unused")
+    public void onWorldUnload(WorldEvent.Unload event) {
+        this.watchers.remove(event.getWorld());
+        StructureCache.getInstance().onWorldUnloaded(event.getWorld());
+        if(event.getWorld() instanceof World) {
+            EntityCountCache.getInstance().clear((World) event.getWorld());
+            AmbientCache.getInstance().clear((World) event.getWorld());
+        }
+    }
+}
@@ -7,6 +7,7 @@ import com.infinityraider.agricraft.api.v1.adapter.IAgriAdapterizer;
 import com.infinityraider.agricraft.api.v1.config.IAgriConfig;
 import com.infinityraider.agricraft.api.v1.crop.IAgriCrop;
 import com.infinityraider.agricraft.api.v1.fertilizer.IAgriFertilizer;
+import com.infinityraider.agricraft.api.v1.genetics.IAgriBreedingPlanner;
 import com.infinityraider.agricraft.api.v1.genetics.IAgriGeneRegistry;
 import com.infinityraider.agricraft.api.v1.genetics.IAgriGenome;
 import com.infinityraider.agricraft.api.v1.genetics.IAgriMutationHandler;
@@ -24,6 +25,7 @@ import com.infinityraider.agricraft.api.v1.stat.IAgriStatRegistry;
 import com.infinityraider.agricraft.capability.CapabilityIrrigationNetworkReference;
 import com.infinityraider.agricraft.content.core.ItemDynamicAgriSeed;
 import com.infinityraider.agricraft.impl.v1.crop.IncrementalGrowthLogic;
+import com.infinityraider.agricraft.impl.v1.genetics.AgriBreedingPlanner;
 import com.infinityraider.agricraft.impl.v1.genetics.AgriGeneRegistry;
 import com.infinityraider.agricraft.impl.v1.genetics.AgriGenome;
 import com.infinityraider.agricraft.impl.v1.genetics.AgriMutationHandler;
@@ -197,6 +199,12 @@ public class AgriApiConnector implements IAgriApiConnector {
         return this.mutator;
     }
 
+    @Nonnull
+    @Override
+    public IAgriBreedingPlanner getBreedingPlanner() {
+        return AgriBreedingPlanner.getInstance();
+    }
+
     @Nonnull
     @Override
     public IAgriGenome.Builder getAgriGenomeBuilder(@Nonnull IAgriPlant plant) {
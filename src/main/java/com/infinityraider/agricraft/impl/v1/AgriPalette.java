@@ -0,0 +1,74 @@
+package com.infinityraider.agricraft.impl.v1;
+
+import com.agricraft.agricore.core.AgriCore;
+import com.google.common.collect.Maps;
+
+import javax.annotation.Nonnull;
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Runtime palette which assigns small integer ids to registry elements, allowing them to be stored in packed primitive fields.
+ * Ids are assigned on first use and remain valid for the lifetime of the game instance, they are not meant to be persisted.
+ * The fallback element always has id 0.
+ */
+public final class AgriPalette<T> {
+    private final int maxId;
+    private final T fallback;
+    private final Map<T, Integer> ids;
+    private volatile Object[] elements;
+
+    public AgriPalette(@Nonnull T fallback, int maxId) {
+        this.maxId = maxId;
+        this.fallback = fallback;
+        this.ids = Maps.newConcurrentMap();
+        this.ids.put(fallback, 0);
+        this.elements = new Object[] {fallback};
+    }
+
+    /**
+     * Fetches the id for an element, assigning a new one if the element does not have an id yet
+     * @param element the element
+     * @return the id for the element
+     */
+    public int getId(@Nonnull T element) {
+        Integer id = this.ids.get(element);
+        return id == null ? this.assignId(element) : id;
+    }
+
+    /**
+     * Fetches the element for an id
+     * @param id the id
+     * @return the element, or the fallback if no element has the id
+     */
+    @Nonnull
+    @SuppressWarnings("unchecked")
+    public T get(int id) {
+        Object[] elements = this.elements;
+        return (id >= 0 && id < elements.length) ? (T) elements[id] : this.fallback;
+    }
+
+    /**
+     * @return the number of elements in this palette
+     */
+    public int size() {
+        return this.elements.length;
+    }
+
+    private synchronized int assignId(T element) {
+        Integer id = this.ids.get(element);
+        if(id != null) {
+            return id;
+        }
+        Object[] elements = this.elements;
+        if(elements.length > this.maxId) {
+            AgriCore.getLogger("agricraft").error("Palette is full, unable to assign an id to \"{0}\"", element);
+            return 0;
+        }
+        Object[] extended = Arrays.copyOf(elements, elements.length + 1);
+        extended[elements.length] = element;
+        this.elements = extended;
+        this.ids.put(element, elements.length);
+        return elements.length;
+    }
+}
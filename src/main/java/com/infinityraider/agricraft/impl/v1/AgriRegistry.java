@@ -13,6 +13,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 
 /**
@@ -23,9 +24,20 @@ import java.util.stream.Stream;
 public abstract class AgriRegistry<T extends IAgriRegisterable<T>> implements IAgriRegistry<T> {
 
     private final ConcurrentMap<String, T> registry;
+    private final AtomicInteger version;
 
     protected AgriRegistry() {
         this.registry = new ConcurrentHashMap<>();
+        this.version = new AtomicInteger();
+    }
+
+    /**
+     * The version is incremented every time an element is added or removed, allowing caches derived from the registry
+     * to detect when they have to be rebuilt
+     * @return the current version of this registry
+     */
+    public int getVersion() {
+        return this.version.get();
     }
 
     @Override
@@ -47,20 +59,53 @@ public abstract class AgriRegistry<T extends IAgriRegisterable<T>> implements IA
                 .map(this.registry::get);
     }
 
+    /**
+     * Fetches an element without wrapping it in an Optional, intended for code paths which are called very frequently
+     * @param id the id of the element
+     * @return the element, or null if there is no element registered for the id
+     */
+    @Nullable
+    public T getOrNull(@Nullable String id) {
+        return id == null ? null : this.registry.get(id);
+    }
+
     @Override
     public boolean add(@Nullable T object) {
         return object != null && this.directAdd(this.fireEvent(object));
     }
 
     protected final boolean directAdd(@Nonnull T object) {
-        return this.registry.putIfAbsent(object.getId(), object) == null;
+        if(this.registry.putIfAbsent(object.getId(), object) == null) {
+            this.onAdded(object);
+            this.version.incrementAndGet();
+            return true;
+        }
+        return false;
     }
 
     @Override
     public boolean remove(@Nullable T element) {
-        return this.registry.remove(element.getId()) != null;
+        T removed = this.registry.remove(element.getId());
+        if(removed != null) {
+            this.onRemoved(removed);
+            this.version.incrementAndGet();
+            return true;
+        }
+        return false;
     }
 
+    /**
+     * Called after an element has been added to the registry
+     * @param element the element
+     */
+    protected void onAdded(@Nonnull T element) {}
+
+    /**
+     * Called after an element has been removed from the registry
+     * @param element the element
+     */
+    protected void onRemoved(@Nonnull T element) {}
+
     @Override
     public Collection<T> all() {
         return Collections.unmodifiableCollection(this.registry.values());
@@ -14,6 +14,7 @@ import com.infinityraider.agricraft.api.v1.plant.IAgriPlant;
 import com.infinityraider.agricraft.api.v1.plant.IAgriWeed;
 import com.infinityraider.agricraft.api.v1.soil.IAgriSoil;
 import com.infinityraider.agricraft.config.Config;
+import com.infinityraider.agricraft.impl.v1.genetics.AgriMutationRegistry;
 import com.infinityraider.agricraft.impl.v1.plant.JsonPlant;
 import com.infinityraider.agricraft.impl.v1.plant.JsonWeed;
 import com.infinityraider.agricraft.impl.v1.requirement.JsonSoil;
@@ -183,5 +184,8 @@ public final class CoreHandler {
         for (IAgriMutation mutation : AgriApi.getMutationRegistry().all()) {
             AgriCore.getLogger("agricraft").info(" - {0}", mutation);
         }
+
+        // Compile the mutation graph, further changes are applied incrementally
+        AgriMutationRegistry.getInstance().getGraph();
     }
 }
@@ -2,6 +2,8 @@ package com.infinityraider.agricraft.impl.v1.crop;
 
 import com.infinityraider.agricraft.api.v1.crop.IAgriGrowthStage;
 import com.infinityraider.agricraft.api.v1.plant.IAgriGrowthRegistry;
+import com.infinityraider.agricraft.content.core.PackedCropState;
+import com.infinityraider.agricraft.impl.v1.AgriPalette;
 import com.infinityraider.agricraft.impl.v1.AgriRegistry;
 
 import javax.annotation.Nonnull;
@@ -17,8 +19,11 @@ public class AgriGrowthRegistry extends AgriRegistry<IAgriGrowthStage> implement
         return INSTANCE;
     }
 
+    private final AgriPalette<IAgriGrowthStage> palette;
+
     public AgriGrowthRegistry() {
         super();
+        this.palette = new AgriPalette<>(NO_GROWTH, PackedCropState.MAX_ID);
         // register no growth
         this.add(NO_GROWTH);
     }
@@ -40,4 +45,8 @@ public class AgriGrowthRegistry extends AgriRegistry<IAgriGrowthStage> implement
     public IAgriGrowthStage getNoGrowth() {
         return NO_GROWTH;
     }
+
+    public AgriPalette<IAgriGrowthStage> getPalette() {
+        return this.palette;
+    }
 }
@@ -0,0 +1,146 @@
+package com.infinityraider.agricraft.impl.v1.crop;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.infinityraider.agricraft.api.v1.requirement.IGrowCondition;
+import com.infinityraider.agricraft.reference.AgriToolTips;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.text.ITextComponent;
+import net.minecraft.util.text.StringTextComponent;
+import net.minecraft.util.text.TextFormatting;
+import net.minecraft.util.text.TranslationTextComponent;
+
+import javax.annotation.Nonnull;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Explains why a crop is fertile or not, obtained by tracing the evaluation of its grow conditions.
+ *
+ * Contrary to the regular fertility check, a trace evaluates every condition without caching, so all failing conditions
+ * are reported, together with their evaluation time and the positions they read.
+ */
+public final class FertilityTrace {
+    private final boolean growthSpace;
+    private final int strength;
+    private final List<Entry> entries;
+
+    public FertilityTrace(boolean growthSpace, int strength, List<Entry> entries) {
+        this.growthSpace = growthSpace;
+        this.strength = strength;
+        this.entries = ImmutableList.copyOf(entries);
+    }
+
+    /**
+     * @return true if the crop is fertile, meaning it has space to grow and all conditions which are not ignored are met
+     */
+    public boolean isFertile() {
+        return this.hasGrowthSpace() && this.entries.stream().allMatch(entry -> entry.isIgnored() || entry.isMet());
+    }
+
+    /**
+     * @return false if the plant can not grow because there are blocks in the way
+     */
+    public boolean hasGrowthSpace() {
+        return this.growthSpace;
+    }
+
+    /**
+     * @return the strength stat of the crop at the time of the trace
+     */
+    public int getStrength() {
+        return this.strength;
+    }
+
+    /**
+     * @return an entry for every condition, in the order in which they are evaluated
+     */
+    public List<Entry> getEntries() {
+        return this.entries;
+    }
+
+    /**
+     * @return the first condition which failed, this is where the regular fertility check stops
+     */
+    public Optional<Entry> getFirstFailure() {
+        return this.entries.stream().filter(entry -> !entry.isIgnored() && !entry.isMet()).findFirst();
+    }
+
+    /**
+     * Adds a description of this trace
+     * @param consumer consumer accepting the lines of text
+     */
+    public void addDisplayInfo(@Nonnull Consumer<ITextComponent> consumer) {
+        consumer.accept(new TranslationTextComponent("agricraft.trace.header",
+                this.isFertile() ? AgriToolTips.FERTILE : AgriToolTips.NOT_FERTILE, this.getStrength()));
+        if(!this.hasGrowthSpace()) {
+            consumer.accept(new TranslationTextComponent("agricraft.trace.growth_space").mergeStyle(TextFormatting.RED));
+        }
+        for(Entry entry : this.getEntries()) {
+            TranslationTextComponent status;
+            TextFormatting color;
+            if(entry.isIgnored()) {
+                status = new TranslationTextComponent("agricraft.trace.ignored");
+                color = TextFormatting.GRAY;
+            } else if(entry.isMet()) {
+                status = new TranslationTextComponent("agricraft.trace.met");
+                color = TextFormatting.GREEN;
+            } else {
+                status = new TranslationTextComponent("agricraft.trace.failed");
+                color = TextFormatting.RED;
+            }
+            consumer.accept(new TranslationTextComponent("agricraft.trace.condition", entry.getCondition().getType().name(),
+                    status, String.format("%.1f", entry.getNanos() / 1000.0), entry.getPositions().size()).mergeStyle(color));
+            if(!entry.isIgnored() && !entry.isMet()) {
+                entry.getCondition().addDescription(line -> consumer.accept(new StringTextComponent("   ").append(line)));
+            }
+        }
+    }
+
+    public static final class Entry {
+        private final IGrowCondition condition;
+        private final boolean ignored;
+        private final boolean met;
+        private final long nanos;
+        private final Set<BlockPos> positions;
+
+        public Entry(IGrowCondition condition, boolean ignored, boolean met, long nanos, Set<BlockPos> positions) {
+            this.condition = condition;
+            this.ignored = ignored;
+            this.met = met;
+            this.nanos = nanos;
+            this.positions = ImmutableSet.copyOf(positions);
+        }
+
+        public IGrowCondition getCondition() {
+            return this.condition;
+        }
+
+        /**
+         * @return true if the condition was not evaluated, because the strength stat of the crop overcomes it
+         */
+        public boolean isIgnored() {
+            return this.ignored;
+        }
+
+        public boolean isMet() {
+            return this.met;
+        }
+
+        /**
+         * @return the time it took to evaluate the condition, in nanoseconds
+         */
+        public long getNanos() {
+            return this.nanos;
+        }
+
+        /**
+         * @return the absolute positions the condition reads
+         */
+        public Set<BlockPos> getPositions() {
+            return this.positions;
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package com.infinityraider.agricraft.impl.v1.crop;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.MapMaker;
+import com.infinityraider.agricraft.api.v1.requirement.IGrowCondition;
+import com.infinityraider.agricraft.impl.v1.stats.AgriStatRegistry;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+
+import javax.annotation.Nonnull;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Evaluates a set of grow conditions cheapest first, and stops at the first condition which is not met.
+ *
+ * Conditions which can be cached are always evaluated before conditions which can not, as their cost is only paid once.
+ * Within each group, the conditions are initially ordered by their complexity. The evaluator counts how often every
+ * condition is evaluated and how often it fails, and periodically reorders the conditions by their expected cost per
+ * rejection, which is the complexity divided by the failure rate. This way, expensive checks such as entities or
+ * structures are only evaluated after the cheap checks which are likely to fail have passed.
+ *
+ * Conditions are ignored for crops with a strength stat equal to or higher than the condition's strengthToIgnore.
+ * For every strength level, the subset of conditions which still apply is precomputed in evaluation order, so crops
+ * with a high strength stat skip the conditions they overcome without evaluating them.
+ *
+ * Evaluators are shared by all crops with the same set of conditions, so the statistics are gathered over all of them.
+ * For debugging, the evaluation can be traced, which is a separate code path so the regular evaluation is unaffected.
+ * The counters are not synchronized, concurrent updates may be lost, which only affects the ordering.
+ */
+public final class GrowConditionEvaluator {
+    /** Number of evaluations after which the conditions are reordered */
+    static final int REORDER_INTERVAL = 1024;
+
+    // Plants hold on to their condition sets, which are compared by identity
+    private static final Map<Set<IGrowCondition>, GrowConditionEvaluator> EVALUATORS = new MapMaker().weakKeys().makeMap();
+
+    /**
+     * Fetches the evaluator for a set of conditions
+     * @param conditions the grow conditions
+     * @return the shared evaluator for the conditions
+     */
+    public static GrowConditionEvaluator get(@Nonnull Set<IGrowCondition> conditions) {
+        return EVALUATORS.computeIfAbsent(conditions,
+                key -> new GrowConditionEvaluator(key, AgriStatRegistry.getInstance().strengthStat().getMax()));
+    }
+
+    private final IGrowCondition[] conditions;
+    private final boolean[] cachable;
+    private final int[] evaluations;
+    private final int[] failures;
+    private final int cachableCount;
+    private final int maxStrength;
+
+    // Evaluation order of all conditions, and of the applicable conditions per strength level
+    private volatile int[] order;
+    private volatile int[][] orders;
+    private int age;
+
+    GrowConditionEvaluator(Set<IGrowCondition> conditions, int maxStat) {
+        this.conditions = conditions.toArray(new IGrowCondition[0]);
+        this.cachable = new boolean[this.conditions.length];
+        int count = 0;
+        int strength = 0;
+        for(int i = 0; i < this.conditions.length; i++) {
+            this.cachable[i] = this.conditions[i].getCacheType() != IGrowCondition.CacheType.NONE;
+            if(this.cachable[i]) {
+                count++;
+            }
+            strength = Math.max(strength, this.conditions[i].strengthToIgnore());
+        }
+        this.cachableCount = count;
+        // Strength to ignore values above the maximum strength stat can never be reached
+        this.maxStrength = Math.min(strength, maxStat);
+        this.evaluations = new int[this.conditions.length];
+        this.failures = new int[this.conditions.length];
+        this.order = this.sort();
+        this.orders = this.split(this.order);
+    }
+
+    /**
+     * Evaluates all conditions, without caching
+     * @param world the world
+     * @param pos the position of the crop
+     * @param strength the strength stat of the crop, conditions which it overcomes are skipped
+     * @return true if all conditions are met
+     */
+    public boolean isMet(@Nonnull World world, @Nonnull BlockPos pos, int strength) {
+        return this.isMet(world, pos, strength, IGrowCondition::isMet);
+    }
+
+    /**
+     * Evaluates all conditions, with a custom test for every condition
+     * @param world the world
+     * @param pos the position of the crop
+     * @param strength the strength stat of the crop, conditions which it overcomes are skipped
+     * @param test the test for every condition, allows to look up the results of conditions from a cache
+     * @return true if all conditions are met
+     */
+    public boolean isMet(@Nonnull World world, @Nonnull BlockPos pos, int strength, @Nonnull ConditionTest test) {
+        int[] order = this.orders[Math.max(0, Math.min(strength, this.maxStrength))];
+        boolean result = true;
+        for(int index : order) {
+            this.evaluations[index]++;
+            if(!test.isMet(this.conditions[index], world, pos)) {
+                this.failures[index]++;
+                result = false;
+                break;
+            }
+        }
+        if(++this.age >= REORDER_INTERVAL) {
+            this.reorder();
+        }
+        return result;
+    }
+
+    /**
+     * Evaluates all conditions without caching or short-circuiting, and records the result of every condition,
+     * this does not affect the statistics used for ordering
+     * @param world the world
+     * @param pos the position of the crop
+     * @param strength the strength stat of the crop
+     * @param growthSpace if the crop has enough space to grow
+     * @return the trace
+     */
+    public FertilityTrace trace(@Nonnull World world, @Nonnull BlockPos pos, int strength, boolean growthSpace) {
+        int level = Math.max(0, Math.min(strength, this.maxStrength));
+        List<FertilityTrace.Entry> entries = Lists.newArrayList();
+        for(int index : this.order) {
+            IGrowCondition condition = this.conditions[index];
+            Set<BlockPos> positions = condition.offsetsToCheck().stream().map(pos::add).collect(Collectors.toSet());
+            if(level >= condition.strengthToIgnore()) {
+                entries.add(new FertilityTrace.Entry(condition, true, false, 0, positions));
+            } else {
+                long start = System.nanoTime();
+                boolean met = condition.isMet(world, pos);
+                entries.add(new FertilityTrace.Entry(condition, false, met, System.nanoTime() - start, positions));
+            }
+        }
+        return new FertilityTrace(growthSpace, strength, entries);
+    }
+
+    /**
+     * @return the conditions, in the order in which they are currently evaluated
+     */
+    public IGrowCondition[] getOrder() {
+        return Arrays.stream(this.order).mapToObj(index -> this.conditions[index]).toArray(IGrowCondition[]::new);
+    }
+
+    /**
+     * @param strength a strength stat
+     * @return the conditions which apply for the strength, in the order in which they are currently evaluated
+     */
+    public IGrowCondition[] getOrder(int strength) {
+        int[] order = this.orders[Math.max(0, Math.min(strength, this.maxStrength))];
+        return Arrays.stream(order).mapToObj(index -> this.conditions[index]).toArray(IGrowCondition[]::new);
+    }
+
+    /**
+     * @return the number of conditions which can be cached, these are always evaluated first
+     */
+    public int getCachableCount() {
+        return this.cachableCount;
+    }
+
+    private void reorder() {
+        this.order = this.sort();
+        this.orders = this.split(this.order);
+        // Decay the counters so the order keeps adapting to changing circumstances
+        for(int i = 0; i < this.conditions.length; i++) {
+            this.evaluations[i] /= 2;
+            this.failures[i] /= 2;
+        }
+        this.age = 0;
+    }
+
+    private int[] sort() {
+        Integer[] indices = new Integer[this.conditions.length];
+        double[] scores = new double[this.conditions.length];
+        for(int i = 0; i < indices.length; i++) {
+            indices[i] = i;
+            scores[i] = this.score(i);
+        }
+        Arrays.sort(indices, Comparator.<Integer, Boolean>comparing(i -> !this.cachable[i]).thenComparingDouble(i -> scores[i]));
+        int[] order = new int[indices.length];
+        for(int i = 0; i < order.length; i++) {
+            order[i] = indices[i];
+        }
+        return order;
+    }
+
+    private int[][] split(int[] order) {
+        // A condition applies as long as the strength is lower than the strength to ignore it
+        int[][] orders = new int[this.maxStrength + 1][];
+        for(int strength = 0; strength <= this.maxStrength; strength++) {
+            int level = strength;
+            orders[strength] = Arrays.stream(order)
+                    .filter(index -> level < this.conditions[index].strengthToIgnore())
+                    .toArray();
+        }
+        return orders;
+    }
+
+    private double score(int index) {
+        // Laplace estimate of the failure rate, conditions which have not been evaluated are ordered by complexity
+        double failRate = (this.failures[index] + 1.0) / (this.evaluations[index] + 2.0);
+        return Math.max(1, this.conditions[index].getComplexity()) / failRate;
+    }
+
+    @FunctionalInterface
+    public interface ConditionTest {
+        boolean isMet(IGrowCondition condition, World world, BlockPos pos);
+    }
+}
@@ -2,59 +2,162 @@ package com.infinityraider.agricraft.impl.v1.crop;
 
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.infinityraider.agricraft.api.v1.requirement.IGrowCondition;
+import com.infinityraider.agricraft.impl.v1.requirement.GrowConditionBlockStates;
+import net.minecraft.block.BlockState;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
 
 import javax.annotation.Nonnull;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.Consumer;
 
 /**
- * Encodes all requirements a plant needs to mutate and grow Uses the Builder class inside to
- * construct instances.
+ * Encodes all requirements a plant needs to mutate and grow, and caches the states of those requirements for a crop.
+ * Use the create method to construct instances.
+ *
+ * Conditions which can be cached remain known until their state is invalidated, either by a block update
+ * on one of the positions they check, or by invalidating the entire requirement.
+ * Block changes which do not notify neighbours (e.g. vanilla crop growth and farmland moisture) are not seen as block
+ * updates, therefore the states of block update conditions expire periodically and are then re-evaluated.
+ * Block state conditions keep track of which positions match, and are updated incrementally on block updates.
+ * Conditions which can not be cached are evaluated every time.
+ * The order in which the conditions are checked is decided by the GrowConditionEvaluator shared by all crops.
  */
 public final class GrowthRequirement {
+    /** Amount of world ticks after which the cached state of a block update condition, or the growth space of a crop, is re-evaluated */
+    public static final long REVALIDATION_INTERVAL = 1200;
+
     private final Set<IGrowCondition> allConditions;
     private final Map<IGrowCondition, Status> cache;
-    private final Set<IGrowCondition> toCheck;
+    private final IGrowCondition[] cached;
+    private final Map<BlockPos, IGrowCondition[]> watched;
+    private final GrowConditionEvaluator evaluator;
+    private final GrowConditionEvaluator.ConditionTest test;
 
-    private GrowthRequirement(Set<IGrowCondition> cachable, Set<IGrowCondition> nonCachable) {
-        this.allConditions = new ImmutableSet.Builder<IGrowCondition>().addAll(cachable).addAll(nonCachable).build();
+    private GrowthRequirement(Set<IGrowCondition> conditions, Collection<IGrowCondition> cachable) {
+        this.allConditions = ImmutableSet.copyOf(conditions);
         this.cache = Maps.newIdentityHashMap();
         for(IGrowCondition condition : cachable) {
             this.createStatus(condition);
         }
-        this.toCheck = ImmutableSet.copyOf(nonCachable);
+        this.cached = cachable.toArray(new IGrowCondition[0]);
+        this.watched = mapOffsets(cachable);
+        this.evaluator = GrowConditionEvaluator.get(conditions);
+        this.test = this::test;
+    }
+
+    /**
+     * Creates a new GrowthRequirement for a set of conditions
+     *
+     * @param conditions the grow conditions
+     * @return a new GrowthRequirement, with all cacheable conditions in an unknown state
+     */
+    public static GrowthRequirement create(@Nonnull Set<IGrowCondition> conditions) {
+        List<IGrowCondition> cachable = Lists.newArrayList();
+        for(IGrowCondition condition : conditions) {
+            if(isCachable(condition)) {
+                cachable.add(condition);
+            }
+        }
+        return new GrowthRequirement(conditions, cachable);
     }
 
-    public boolean isMet(@Nonnull World world, @Nonnull BlockPos pos) {
+    /**
+     * Checks if this requirement is met
+     *
+     * @param world the world
+     * @param pos the position of the crop
+     * @param strength the strength stat of the crop, conditions which it overcomes are ignored
+     * @return true if all conditions which are not ignored are met
+     */
+    public boolean isMet(@Nonnull World world, @Nonnull BlockPos pos, int strength) {
         // Validate
         Preconditions.checkNotNull(world);
         Preconditions.checkNotNull(pos);
-        return this.cache.values().stream().allMatch(status -> status.isMet(world, pos))
-                && this.toCheck.stream().allMatch(condition -> condition.isMet(world, pos));
+        return this.evaluator.isMet(world, pos, strength, this.test);
+    }
+
+    private boolean test(IGrowCondition condition, World world, BlockPos pos) {
+        // Cached conditions are looked up, the others are evaluated
+        Status status = this.cache.get(condition);
+        return status == null ? condition.isMet(world, pos) : status.isMet(world, pos);
     }
 
     public Set<IGrowCondition> getConditions() {
         return this.allConditions;
     }
 
+    /**
+     * @return all offsets, relative to the crop, on which block updates may change the state of this requirement
+     */
+    public Set<BlockPos> getWatchedOffsets() {
+        return this.watched.keySet();
+    }
+
+    /**
+     * Notifies this requirement that a block was updated
+     *
+     * @param offset the position of the updated block, relative to the crop
+     * @param state the new block state at the position
+     */
+    public void onBlockUpdate(BlockPos offset, BlockState state) {
+        IGrowCondition[] conditions = this.watched.get(offset);
+        if(conditions != null) {
+            for(IGrowCondition condition : conditions) {
+                this.cache.get(condition).onBlockUpdate(offset, state);
+            }
+        }
+    }
+
+    /**
+     * Resets all cached conditions to an unknown state
+     */
+    public void invalidate() {
+        for(IGrowCondition condition : this.cached) {
+            this.createStatus(condition);
+        }
+    }
+
     private void createStatus(IGrowCondition condition) {
         Status.create(condition, (status) -> this.cache.put(condition, status));
     }
 
+    private static boolean isCachable(IGrowCondition condition) {
+        return condition.getCacheType() != IGrowCondition.CacheType.NONE;
+    }
+
+    private static Map<BlockPos, IGrowCondition[]> mapOffsets(Collection<IGrowCondition> conditions) {
+        Map<BlockPos, List<IGrowCondition>> map = Maps.newHashMap();
+        for(IGrowCondition condition : conditions) {
+            if(condition.getCacheType() == IGrowCondition.CacheType.BLOCK_UPDATE) {
+                for (BlockPos offset : condition.offsetsToCheck()) {
+                    map.computeIfAbsent(offset, key -> Lists.newArrayList()).add(condition);
+                }
+            }
+        }
+        Map<BlockPos, IGrowCondition[]> watched = Maps.newHashMap();
+        map.forEach((offset, list) -> watched.put(offset, list.toArray(new IGrowCondition[0])));
+        return watched;
+    }
+
     private static abstract class Status {
         public static Status create(IGrowCondition condition, Consumer<Status> consumer) {
             return new Unknown(condition, consumer);
         }
 
         private final IGrowCondition condition;
+        private final Consumer<Status> consumer;
 
         private Status(IGrowCondition condition, Consumer<Status> consumer) {
             this.condition = condition;
+            this.consumer = consumer;
             consumer.accept(this);
         }
 
@@ -62,35 +165,106 @@ public final class GrowthRequirement {
             return this.condition;
         }
 
+        protected Consumer<Status> getConsumer() {
+            return this.consumer;
+        }
+
         public abstract boolean isMet(World world, BlockPos pos);
 
-        private static final class Unknown extends Status {
-            private final Consumer<Status> consumer;
+        public abstract void onBlockUpdate(BlockPos offset, BlockState state);
 
+        private static final class Unknown extends Status {
             private Unknown(IGrowCondition condition, Consumer<Status> consumer) {
                 super(condition, consumer);
-                this.consumer = consumer;
             }
 
             @Override
             public boolean isMet(World world, BlockPos pos) {
-                Status actual = new Known(this.getCondition(), world, pos, this.consumer);
+                long expiry = this.getCondition().getCacheType() == IGrowCondition.CacheType.FULL
+                        ? Long.MAX_VALUE
+                        : world.getGameTime() + REVALIDATION_INTERVAL;
+                Status actual;
+                if(this.getCondition() instanceof GrowConditionBlockStates) {
+                    actual = new Counting((GrowConditionBlockStates) this.getCondition(), world, pos, expiry, this.getConsumer());
+                } else {
+                    actual = new Known(this.getCondition(), world, pos, expiry, this.getConsumer());
+                }
                 return actual.isMet(world, pos);
             }
+
+            @Override
+            public void onBlockUpdate(BlockPos offset, BlockState state) {
+                // Still unknown
+            }
         }
 
         private static final class Known extends Status {
             private final boolean status;
+            private final long expiry;
 
-            private Known(IGrowCondition condition, World world, BlockPos pos, Consumer<Status> consumer) {
+            private Known(IGrowCondition condition, World world, BlockPos pos, long expiry, Consumer<Status> consumer) {
                 super(condition, consumer);
                 this.status = this.getCondition().isMet(world, pos);
+                this.expiry = expiry;
             }
 
             @Override
             public boolean isMet(World world, BlockPos pos) {
+                if(world.getGameTime() >= this.expiry) {
+                    return Status.create(this.getCondition(), this.getConsumer()).isMet(world, pos);
+                }
                 return this.status;
             }
+
+            @Override
+            public void onBlockUpdate(BlockPos offset, BlockState state) {
+                // Re-evaluate on the next check
+                Status.create(this.getCondition(), this.getConsumer());
+            }
+        }
+
+        private static final class Counting extends Status {
+            private final GrowConditionBlockStates states;
+            private final BitSet matches;
+            private final long expiry;
+            private int count;
+
+            private Counting(GrowConditionBlockStates condition, World world, BlockPos pos, long expiry, Consumer<Status> consumer) {
+                super(condition, consumer);
+                this.states = condition;
+                this.expiry = expiry;
+                this.matches = new BitSet(condition.getOffsetCount());
+                BlockPos.Mutable checkPos = new BlockPos.Mutable();
+                for(int i = 0; i < condition.getOffsetCount(); i++) {
+                    BlockPos offset = condition.getOffset(i);
+                    checkPos.setPos(pos.getX() + offset.getX(), pos.getY() + offset.getY(), pos.getZ() + offset.getZ());
+                    if(condition.matches(world.getBlockState(checkPos))) {
+                        this.matches.set(i);
+                        this.count++;
+                    }
+                }
+            }
+
+            @Override
+            public boolean isMet(World world, BlockPos pos) {
+                if(world.getGameTime() >= this.expiry) {
+                    return Status.create(this.getCondition(), this.getConsumer()).isMet(world, pos);
+                }
+                return this.states.isMet(this.count);
+            }
+
+            @Override
+            public void onBlockUpdate(BlockPos offset, BlockState state) {
+                int index = this.states.indexOf(offset);
+                if(index < 0) {
+                    return;
+                }
+                boolean match = this.states.matches(state);
+                if(match != this.matches.get(index)) {
+                    this.matches.set(index, match);
+                    this.count += match ? 1 : -1;
+                }
+            }
         }
     }
 }
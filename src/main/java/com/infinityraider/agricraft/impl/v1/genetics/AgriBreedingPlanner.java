@@ -0,0 +1,220 @@
+package com.infinityraider.agricraft.impl.v1.genetics;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import com.infinityraider.agricraft.api.v1.genetics.IAgriBreedingPlanner;
+import com.infinityraider.agricraft.api.v1.genetics.IAgriMutation;
+import com.infinityraider.agricraft.api.v1.plant.IAgriPlant;
+import com.infinityraider.agricraft.impl.v1.plant.AgriPlantRegistry;
+
+import javax.annotation.Nonnull;
+import java.util.*;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Breeding planner implementation.
+ *
+ * The cheapest cost for every plant is found in a single pass over the mutation graph with a variant of Dijkstra's
+ * algorithm for hypergraphs, which also records the mutation used to obtain each plant. Plans are then reconstructed
+ * by following those mutations back from the target, and are cached per target until either registry changes.
+ */
+public class AgriBreedingPlanner implements IAgriBreedingPlanner {
+    private static final AgriBreedingPlanner INSTANCE = new AgriBreedingPlanner();
+
+    public static AgriBreedingPlanner getInstance() {
+        return INSTANCE;
+    }
+
+    private volatile Solution solution;
+
+    private AgriBreedingPlanner() {}
+
+    @Nonnull
+    @Override
+    public Optional<Plan> getPlan(@Nonnull IAgriPlant target) {
+        return this.getSolution().getPlan(target);
+    }
+
+    @Override
+    public double getCost(@Nonnull IAgriPlant target) {
+        return this.getSolution().getCost(target);
+    }
+
+    private Solution getSolution() {
+        int mutations = AgriMutationRegistry.getInstance().getVersion();
+        int plants = AgriPlantRegistry.getInstance().getVersion();
+        Solution solution = this.solution;
+        if(solution == null || solution.mutationVersion != mutations || solution.plantVersion != plants) {
+            solution = new Solution(mutations, plants);
+            this.solution = solution;
+        }
+        return solution;
+    }
+
+    private static final class Solution {
+        private final int mutationVersion;
+        private final int plantVersion;
+        private final Map<IAgriPlant, Double> costs;
+        private final Map<IAgriPlant, IAgriMutation> best;
+        private final ConcurrentMap<IAgriPlant, Optional<Plan>> plans;
+
+        private Solution(int mutationVersion, int plantVersion) {
+            this.mutationVersion = mutationVersion;
+            this.plantVersion = plantVersion;
+            this.costs = Maps.newHashMap();
+            this.best = Maps.newHashMap();
+            this.plans = Maps.newConcurrentMap();
+            this.solve();
+        }
+
+        private double getCost(IAgriPlant target) {
+            Double cost = this.costs.get(target);
+            return cost == null ? Double.POSITIVE_INFINITY : cost;
+        }
+
+        private Optional<Plan> getPlan(IAgriPlant target) {
+            return this.plans.computeIfAbsent(target, this::plan);
+        }
+
+        private void solve() {
+            // Index the mutations which can succeed
+            Map<IAgriPlant, List<IAgriMutation>> producers = Maps.newHashMap();
+            Map<IAgriPlant, List<IAgriMutation>> consumers = Maps.newHashMap();
+            for(IAgriMutation mutation : AgriMutationRegistry.getInstance().all()) {
+                if(mutation.getChance() <= 0) {
+                    continue;
+                }
+                producers.computeIfAbsent(mutation.getChild(), plant -> Lists.newArrayList()).add(mutation);
+                for(IAgriPlant parent : ImmutableSet.copyOf(mutation.getParents())) {
+                    consumers.computeIfAbsent(parent, plant -> Lists.newArrayList()).add(mutation);
+                }
+            }
+            // Plants which are not the child of a mutation are starting points
+            PriorityQueue<Candidate> queue = new PriorityQueue<>();
+            Set<IAgriPlant> plants = Sets.newHashSet(AgriPlantRegistry.getInstance().all());
+            plants.addAll(consumers.keySet());
+            for(IAgriPlant plant : plants) {
+                if(plant.isPlant() && !producers.containsKey(plant)) {
+                    queue.add(new Candidate(plant, AgriMutationRegistry.getInstance().complexity(plant), null));
+                }
+            }
+            // Remaining parents and partial sum of the parents' costs for every mutation
+            Map<IAgriMutation, int[]> remaining = Maps.newIdentityHashMap();
+            Map<IAgriMutation, double[]> partial = Maps.newIdentityHashMap();
+            producers.values().forEach(list -> list.forEach(mutation -> {
+                remaining.put(mutation, new int[] {mutation.getParents().size()});
+                partial.put(mutation, new double[1]);
+            }));
+            while(!queue.isEmpty()) {
+                Candidate candidate = queue.poll();
+                if(this.costs.containsKey(candidate.plant)) {
+                    continue;
+                }
+                this.costs.put(candidate.plant, candidate.cost);
+                if(candidate.mutation != null) {
+                    this.best.put(candidate.plant, candidate.mutation);
+                }
+                for(IAgriMutation mutation : consumers.getOrDefault(candidate.plant, Collections.emptyList())) {
+                    if(this.costs.containsKey(mutation.getChild())) {
+                        continue;
+                    }
+                    int[] count = remaining.get(mutation);
+                    double[] sum = partial.get(mutation);
+                    for(IAgriPlant parent : mutation.getParents()) {
+                        if(parent.equals(candidate.plant)) {
+                            count[0]--;
+                            sum[0] += candidate.cost;
+                        }
+                    }
+                    if(count[0] == 0) {
+                        // The expected number of attempts for the mutation to succeed is the inverse of its chance
+                        queue.add(new Candidate(mutation.getChild(), sum[0] + 1.0 / mutation.getChance(), mutation));
+                    }
+                }
+            }
+        }
+
+        private Optional<Plan> plan(IAgriPlant target) {
+            if(!this.costs.containsKey(target)) {
+                return Optional.empty();
+            }
+            List<IAgriMutation> steps = Lists.newArrayList();
+            Set<IAgriPlant> starting = Sets.newLinkedHashSet();
+            this.collect(target, steps, starting, Sets.newHashSet());
+            return Optional.of(new AgriBreedingPlan(target, this.getCost(target), starting, steps));
+        }
+
+        private void collect(IAgriPlant plant, List<IAgriMutation> steps, Set<IAgriPlant> starting, Set<IAgriPlant> visited) {
+            if(!visited.add(plant)) {
+                return;
+            }
+            IAgriMutation mutation = this.best.get(plant);
+            if(mutation == null) {
+                starting.add(plant);
+                return;
+            }
+            // The parents of the best mutation are always obtained before its child, so this can not loop
+            for(IAgriPlant parent : mutation.getParents()) {
+                this.collect(parent, steps, starting, visited);
+            }
+            steps.add(mutation);
+        }
+    }
+
+    private static final class Candidate implements Comparable<Candidate> {
+        private final IAgriPlant plant;
+        private final double cost;
+        private final IAgriMutation mutation;
+
+        private Candidate(IAgriPlant plant, double cost, IAgriMutation mutation) {
+            this.plant = plant;
+            this.cost = cost;
+            this.mutation = mutation;
+        }
+
+        @Override
+        public int compareTo(Candidate other) {
+            return Double.compare(this.cost, other.cost);
+        }
+    }
+
+    private static final class AgriBreedingPlan implements Plan {
+        private final IAgriPlant target;
+        private final double cost;
+        private final Set<IAgriPlant> starting;
+        private final List<IAgriMutation> steps;
+
+        private AgriBreedingPlan(IAgriPlant target, double cost, Set<IAgriPlant> starting, List<IAgriMutation> steps) {
+            this.target = target;
+            this.cost = cost;
+            this.starting = ImmutableSet.copyOf(starting);
+            this.steps = ImmutableList.copyOf(steps);
+        }
+
+        @Nonnull
+        @Override
+        public IAgriPlant getTarget() {
+            return this.target;
+        }
+
+        @Override
+        public double getCost() {
+            return this.cost;
+        }
+
+        @Nonnull
+        @Override
+        public Set<IAgriPlant> getStartingPlants() {
+            return this.starting;
+        }
+
+        @Nonnull
+        @Override
+        public List<IAgriMutation> getSteps() {
+            return this.steps;
+        }
+    }
+}
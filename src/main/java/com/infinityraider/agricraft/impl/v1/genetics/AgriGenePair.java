@@ -37,6 +37,7 @@ public class AgriGenePair<A> implements IAgriGenePair<A> {
 
     @Override
     public IAgriGenePair<A> clone() {
-        return new AgriGenePair<>(this.getGene(), this.getDominant(), this.getRecessive());
+        // Gene pairs are immutable
+        return this;
     }
 }
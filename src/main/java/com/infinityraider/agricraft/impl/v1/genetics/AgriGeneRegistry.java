@@ -7,8 +7,11 @@ import com.infinityraider.agricraft.api.v1.stat.IAgriStat;
 import com.infinityraider.agricraft.impl.v1.stats.AgriStatRegistry;
 import com.infinityraider.agricraft.impl.v1.AgriRegistry;
 
+import com.google.common.collect.ImmutableMap;
+
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.util.Arrays;
 import java.util.Optional;
 
 @SuppressWarnings("Unchecked")
@@ -21,6 +24,10 @@ public class AgriGeneRegistry extends AgriRegistry<IAgriGene<?>> implements IAgr
 
     public final IAgriGene<IAgriPlant> gene_species;
 
+    // Every registered gene is assigned an ordinal, ordinals are never reused so genomes built earlier remain valid
+    private volatile ImmutableMap<IAgriGene<?>, Integer> ordinals = ImmutableMap.of();
+    private volatile IAgriGene<?>[] genes = new IAgriGene<?>[0];
+
     private AgriGeneRegistry() {
         super();
         // Auto populate species gene
@@ -50,6 +57,68 @@ public class AgriGeneRegistry extends AgriRegistry<IAgriGene<?>> implements IAgr
         return super.remove(element);
     }
 
+    @Override
+    protected synchronized void onAdded(@Nonnull IAgriGene<?> element) {
+        Integer existing = this.ordinals.get(element);
+        if(existing != null) {
+            // The gene was registered before, restore its original ordinal
+            IAgriGene<?>[] genes = this.genes.clone();
+            genes[existing] = element;
+            this.genes = genes;
+            return;
+        }
+        int ordinal = this.genes.length;
+        this.genes = Arrays.copyOf(this.genes, ordinal + 1);
+        this.genes[ordinal] = element;
+        this.ordinals = ImmutableMap.<IAgriGene<?>, Integer>builder().putAll(this.ordinals).put(element, ordinal).build();
+    }
+
+    @Override
+    protected synchronized void onRemoved(@Nonnull IAgriGene<?> element) {
+        Integer ordinal = this.ordinals.get(element);
+        if(ordinal != null) {
+            // Leave a hole, the ordinal is not reused
+            IAgriGene<?>[] genes = this.genes.clone();
+            genes[ordinal] = null;
+            this.genes = genes;
+        }
+    }
+
+    /**
+     * @param gene a gene
+     * @return the ordinal of the gene, or -1 if the gene is not registered
+     */
+    public int getOrdinal(@Nonnull IAgriGene<?> gene) {
+        Integer ordinal = this.ordinals.get(gene);
+        return ordinal == null ? -1 : ordinal;
+    }
+
+    /**
+     * @param stat a stat
+     * @return the ordinal of the gene for the stat, or -1 if there is none
+     */
+    public int getStatOrdinal(@Nullable IAgriStat stat) {
+        IAgriGene<Integer> gene = this.getGeneForStat(stat);
+        return gene == null ? -1 : this.getOrdinal(gene);
+    }
+
+    /**
+     * @param ordinal an ordinal
+     * @return the gene with the ordinal, or null if no gene is registered with it
+     */
+    @Nullable
+    public IAgriGene<?> getGene(int ordinal) {
+        IAgriGene<?>[] genes = this.genes;
+        return ordinal >= 0 && ordinal < genes.length ? genes[ordinal] : null;
+    }
+
+    /**
+     * @return the number of ordinals which have been assigned, all ordinals are lower than this
+     */
+    public int getOrdinalCount() {
+        return this.genes.length;
+    }
+
     @Nonnull
     @Override
     public IAgriGene<IAgriPlant> getPlantGene() {
@@ -62,6 +131,17 @@ public class AgriGeneRegistry extends AgriRegistry<IAgriGene<?>> implements IAgr
         return stat == null ? Optional.empty() : this.get(stat.getId()).map(gene -> (IAgriGene<Integer>) gene);
     }
 
+    /**
+     * Fetches the gene for a stat without wrapping it in an Optional, intended for code paths which are called very frequently
+     * @param stat the stat
+     * @return the gene for the stat, or null if there is none
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public IAgriGene<Integer> getGeneForStat(@Nullable IAgriStat stat) {
+        return stat == null ? null : (IAgriGene<Integer>) this.getOrNull(stat.getId());
+    }
+
     public boolean addGeneForStat(@Nullable IAgriStat stat) {
         return this.get(stat).map(gene -> {
             // The gene for this stat is already present
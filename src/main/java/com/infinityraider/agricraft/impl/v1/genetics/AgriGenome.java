@@ -1,7 +1,7 @@
 package com.infinityraider.agricraft.impl.v1.genetics;
 
-import com.google.common.collect.Maps;
-import com.infinityraider.agricraft.api.v1.AgriApi;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
 import com.infinityraider.agricraft.api.v1.genetics.*;
 import com.infinityraider.agricraft.api.v1.plant.IAgriPlant;
 import com.infinityraider.agricraft.api.v1.stat.IAgriStat;
@@ -14,20 +14,50 @@ import net.minecraft.nbt.ListNBT;
 import net.minecraft.util.text.ITextComponent;
 
 import javax.annotation.Nonnull;
-import java.util.Map;
+import java.util.Arrays;
+import java.util.Objects;
 import java.util.function.Consumer;
 
+/**
+ * Immutable genome implementation.
+ *
+ * Genomes are interned: every genome built through the builder is replaced by a canonical instance with the same genes,
+ * so that crops and seeds with identical genetics share a single object. The pool only holds weak references,
+ * genomes which are no longer used anywhere are garbage collected as normal.
+ *
+ * Gene pairs are stored in an array indexed by the ordinals assigned by the AgriGeneRegistry, and the traits of the
+ * stat genes are unboxed into a separate array, so reading a stat is a single array access.
+ *
+ * Builders which clone from a genome share its gene array until they are modified, so cloning a genome and
+ * building a genome from an unmodified clone never copies or allocates gene pairs.
+ */
 public class AgriGenome implements IAgriGenome, IAgriStatsMap, IAgriStatProvider {
-    private final Map<IAgriGene<?>, IAgriGenePair<?>> geneMap;
+    private static final Interner<AgriGenome> POOL = Interners.newWeakInterner();
 
-    private AgriGenome(Map<IAgriGene<?>, IAgriGenePair<?>> geneMap) {
-        this.geneMap = geneMap;
+    private final IAgriGenePair<?>[] pairs;
+    private final int[] values;
+    private final int hash;
+
+    private AgriGenome(IAgriGenePair<?>[] pairs) {
+        this.pairs = pairs;
+        this.values = new int[pairs.length];
+        for(int i = 0; i < pairs.length; i++) {
+            if(pairs[i] != null && pairs[i].getGene() instanceof GeneStat) {
+                this.values[i] = (Integer) pairs[i].getTrait();
+            }
+        }
+        this.hash = this.computeHash();
+    }
+
+    private static AgriGenome intern(IAgriGenePair<?>[] pairs) {
+        return POOL.intern(new AgriGenome(pairs));
     }
 
     @Override
     @SuppressWarnings("unchecked")
     public <T> IAgriGenePair<T> getGenePair(IAgriGene<T> gene) {
-        return (IAgriGenePair<T>) this.geneMap.get(gene);
+        int ordinal = AgriGeneRegistry.getInstance().getOrdinal(gene);
+        return ordinal >= 0 && ordinal < this.pairs.length ? (IAgriGenePair<T>) this.pairs[ordinal] : null;
     }
 
     @Override
@@ -37,14 +67,18 @@ public class AgriGenome implements IAgriGenome, IAgriStatsMap, IAgriStatProvider
 
     @Override
     public IAgriGenome clone() {
-        return new AgriGenome(Maps.transformValues(this.geneMap, IAgriGenePair::clone));
+        // Genomes are immutable, a clone is the genome itself
+        return this;
     }
 
     @Override
     public boolean writeToNBT(@Nonnull CompoundNBT tag) {
         ListNBT list = new ListNBT();
         int index = 0;
-        for(IAgriGenePair<?> pair : this.geneMap.values()) {
+        for(IAgriGenePair<?> pair : this.pairs) {
+            if(pair == null) {
+                continue;
+            }
             CompoundNBT geneTag = new CompoundNBT();
             geneTag.putString(AgriNBT.GENE, pair.getGene().getId());
             geneTag.put(AgriNBT.DOMINANT, pair.getDominant().writeToNBT());
@@ -56,24 +90,22 @@ public class AgriGenome implements IAgriGenome, IAgriStatsMap, IAgriStatProvider
         return true;
     }
 
+    /**
+     * Genomes are immutable, the tag is read through the builder and is only accepted if it describes this genome.
+     * Use IAgriGenome.Builder.readFromNBT() to read genomes instead.
+     * @return true if the tag describes a valid genome identical to this one, false otherwise
+     */
     @Override
-    @SuppressWarnings("unchecked")
+    @Deprecated
     public boolean readFromNBT(@Nonnull CompoundNBT tag) {
-        if(tag.contains(AgriNBT.GENOME)) {
-            ListNBT list = tag.getList(AgriNBT.GENOME, 10);
-            for (int i = 0; i < list.size(); i++) {
-                CompoundNBT geneTag = list.getCompound(i);
-                AgriGeneRegistry.getInstance().get(geneTag.getString(AgriNBT.GENE))
-                        .ifPresent(gene -> {
-                            this.geneMap.put(gene, this.generateGenePairFromNBT(gene, geneTag));
-                        });
-            }
-            return this.getPlant().isPlant();
+        if(!tag.contains(AgriNBT.GENOME)) {
+            return false;
         }
-        return false;
+        // Genomes are interned, so a tag describing this genome builds this instance
+        return builder(this.getPlant()).cloneFrom(this).readFromNBT(tag).build() == this && this.hasPlant();
     }
 
-    private <T> IAgriGenePair<T> generateGenePairFromNBT(IAgriGene<T> gene, CompoundNBT tag) {
+    private static <T> IAgriGenePair<T> generateGenePairFromNBT(IAgriGene<T> gene, CompoundNBT tag) {
         IAllele<T> dominant = gene.readAlleleFromNBT(tag.getCompound(AgriNBT.DOMINANT));
         IAllele<T> recessive = gene.readAlleleFromNBT(tag.getCompound(AgriNBT.RECESSIVE));
         return  gene.generateGenePair(dominant, recessive);
@@ -81,10 +113,64 @@ public class AgriGenome implements IAgriGenome, IAgriStatsMap, IAgriStatProvider
 
     @Override
     public int getValue(IAgriStat stat) {
-        return AgriGeneRegistry.getInstance().get(stat)
-                .map(this::getGenePair)
-                .map(IAgriGenePair::getTrait)
-                .orElse(stat.getMin());
+        return this.getValue(AgriGeneRegistry.getInstance().getStatOrdinal(stat), stat);
+    }
+
+    /**
+     * Reads a stat by the ordinal of its gene, intended for code paths which are called very frequently
+     * and which can resolve the ordinal beforehand
+     * @param ordinal the ordinal of the gene for the stat, as assigned by the AgriGeneRegistry
+     * @param stat the stat
+     * @return the value of the stat, or its minimum in case this genome does not hold its gene
+     */
+    public int getValue(int ordinal, IAgriStat stat) {
+        if(ordinal < 0 || ordinal >= this.pairs.length || this.pairs[ordinal] == null) {
+            return stat.getMin();
+        }
+        return this.values[ordinal];
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if(this == obj) {
+            return true;
+        }
+        if(!(obj instanceof AgriGenome)) {
+            return false;
+        }
+        AgriGenome other = (AgriGenome) obj;
+        if(this.hash != other.hash || this.pairs.length != other.pairs.length) {
+            return false;
+        }
+        for(int i = 0; i < this.pairs.length; i++) {
+            if(!equalPairs(this.pairs[i], other.pairs[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        return this.hash;
+    }
+
+    private int computeHash() {
+        int hash = 1;
+        for(IAgriGenePair<?> pair : this.pairs) {
+            hash = 31 * hash + (pair == null ? 0 : 31 * Objects.hashCode(pair.getDominant()) + Objects.hashCode(pair.getRecessive()));
+        }
+        return hash;
+    }
+
+    private static boolean equalPairs(IAgriGenePair<?> a, IAgriGenePair<?> b) {
+        if(a == b) {
+            return true;
+        }
+        if(a == null || b == null) {
+            return false;
+        }
+        return Objects.equals(a.getDominant(), b.getDominant()) && Objects.equals(a.getRecessive(), b.getRecessive());
     }
 
     public static IAgriGenome.Builder builder(IAgriPlant plant) {
@@ -93,21 +179,24 @@ public class AgriGenome implements IAgriGenome, IAgriStatsMap, IAgriStatProvider
 
     @Override
     public void addDisplayInfo(@Nonnull Consumer<ITextComponent> consumer) {
-        this.geneMap.values().stream()
-                .filter(gene -> !gene.getGene().isHidden())
-                .map(AgriToolTips::getGeneTooltip)
-                .forEach(consumer);
+        for(IAgriGenePair<?> pair : this.pairs) {
+            if(pair != null && !pair.getGene().isHidden()) {
+                consumer.accept(AgriToolTips.getGeneTooltip(pair));
+            }
+        }
     }
 
     private static class Builder implements IAgriGenome.Builder {
-        private final Map<IAgriGene<?>, IAgriGenePair<?>> geneMap;
+        private IAgriGenePair<?>[] pairs;
+        // The genome whose gene array is shared with this builder, null once the array has been copied
+        private AgriGenome source;
 
         private Builder(IAgriPlant plant) {
-            this.geneMap = Maps.newIdentityHashMap();
-            for(IAgriGene<?> gene : AgriApi.getGeneRegistry().all()) {
-                this.geneMap.put(gene, this.generateDefaultPair(gene, plant));
+            this.pairs = new IAgriGenePair<?>[AgriGeneRegistry.getInstance().getOrdinalCount()];
+            for(IAgriGene<?> gene : AgriGeneRegistry.getInstance().all()) {
+                this.put(this.generateDefaultPair(gene, plant));
             }
-            this.geneMap.put(GeneSpecies.getInstance(), GeneSpecies.getInstance().generateGenePair(plant, plant));
+            this.put(GeneSpecies.getInstance().generateGenePair(plant, plant));
         }
 
         private <T> IAgriGenePair<T> generateDefaultPair(IAgriGene<T> gene, IAgriPlant plant) {
@@ -116,12 +205,58 @@ public class AgriGenome implements IAgriGenome, IAgriStatsMap, IAgriStatProvider
 
         @Override
         public IAgriGenome build() {
-            return new AgriGenome(this.geneMap);
+            if(this.source != null) {
+                // Not modified since cloning
+                return this.source;
+            }
+            // Copy the genes, the builder might still be modified after building
+            return intern(this.pairs.clone());
+        }
+
+        @Override
+        public IAgriGenome.Builder cloneFrom(IAgriGenome genome) {
+            if(genome instanceof AgriGenome) {
+                this.source = (AgriGenome) genome;
+                this.pairs = this.source.pairs;
+                return this;
+            }
+            this.copyOnWrite();
+            return IAgriGenome.Builder.super.cloneFrom(genome);
+        }
+
+        private void copyOnWrite() {
+            if(this.source != null) {
+                this.pairs = this.pairs.clone();
+                this.source = null;
+            }
+        }
+
+        @Override
+        public IAgriGenome.Builder readFromNBT(@Nonnull CompoundNBT tag) {
+            if(tag.contains(AgriNBT.GENOME)) {
+                ListNBT list = tag.getList(AgriNBT.GENOME, 10);
+                for (int i = 0; i < list.size(); i++) {
+                    CompoundNBT geneTag = list.getCompound(i);
+                    IAgriGene<?> gene = AgriGeneRegistry.getInstance().getOrNull(geneTag.getString(AgriNBT.GENE));
+                    if(gene != null) {
+                        this.put(generateGenePairFromNBT(gene, geneTag));
+                    }
+                }
+            }
+            return this;
         }
 
         @Override
         public <T> IAgriGenome.Builder put(IAgriGenePair<T> pair) {
-            this.geneMap.put(pair.getGene(), pair);
+            int ordinal = AgriGeneRegistry.getInstance().getOrdinal(pair.getGene());
+            if(ordinal >= 0) {
+                this.copyOnWrite();
+                if(ordinal >= this.pairs.length) {
+                    // A gene was registered after this builder was created
+                    this.pairs = Arrays.copyOf(this.pairs, ordinal + 1);
+                }
+                this.pairs[ordinal] = pair;
+            }
             return this;
         }
     }
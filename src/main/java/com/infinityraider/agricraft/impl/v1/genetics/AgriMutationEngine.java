@@ -15,12 +15,18 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 public class AgriMutationEngine implements IAgriMutationEngine {
+    private final IParentSelector defaultSelector;
+    // Subclasses which override the stream based selection must not be bypassed by the array based selection
+    private final boolean streamSelectionOverridden;
+
     private IParentSelector selector;
     private ICloneLogic cloner;
     private ICombineLogic combiner;
 
     public AgriMutationEngine() {
-        this.selector = this::selectAndSortCandidates;
+        this.defaultSelector = this::selectAndSortCandidates;
+        this.streamSelectionOverridden = isStreamSelectionOverridden(this.getClass());
+        this.selector = this.defaultSelector;
         this.cloner = (parent, random) -> parent.clone();
         this.combiner = (parents, random) -> AgriApi.getAgriGenomeBuilder(parents.getA().getTrait(GeneSpecies.getInstance()))
                 .populate(gene -> this.mutateGene(gene, parents, random)).build();
@@ -38,6 +44,25 @@ public class AgriMutationEngine implements IAgriMutationEngine {
         return this.combiner;
     }
 
+    /**
+     * @return true if parents are selected by the default logic, which can be done in place on an array of neighbours
+     */
+    protected boolean usesDefaultSelection() {
+        return this.getSelector() == this.defaultSelector && !this.streamSelectionOverridden;
+    }
+
+    private static boolean isStreamSelectionOverridden(Class<?> clazz) {
+        for(Class<?> c = clazz; c != AgriMutationEngine.class && c != null; c = c.getSuperclass()) {
+            try {
+                c.getDeclaredMethod("selectAndSortCandidates", Stream.class, Random.class);
+                return true;
+            } catch (NoSuchMethodException e) {
+                // Not overridden by this class, check its superclass
+            }
+        }
+        return false;
+    }
+
     @Override
     public boolean handleMutationTick(IAgriCrop crop, Stream<IAgriCrop> neighbours, Random random) {
         // select candidate parents from the neighbours
@@ -54,6 +79,70 @@ public class AgriMutationEngine implements IAgriMutationEngine {
         return this.doCombine(crop, candidates.get(0), candidates.get(1), random);
     }
 
+    @Override
+    public boolean handleMutationTick(IAgriCrop crop, IAgriCrop[] neighbours, int count, Random random) {
+        if(!this.usesDefaultSelection()) {
+            // Custom selection logic, which requires a stream
+            return this.handleMutationTick(crop, Arrays.stream(neighbours, 0, count), random);
+        }
+        // Same logic as the default selector, but in place
+        int candidates = this.selectAndSortCandidates(neighbours, count, random);
+        if(candidates <= 0) {
+            return false;
+        }
+        if(candidates == 1) {
+            return this.doClone(crop, neighbours[0], random);
+        }
+        return this.doCombine(crop, neighbours[0], neighbours[1], random);
+    }
+
+    @Override
+    public boolean canBeParent(IAgriCrop neighbour) {
+        if(!this.usesDefaultSelection()) {
+            // Custom selection logic, make no assumptions
+            return true;
+        }
+        // Fertility depends on the surroundings, it is checked during the mutation tick
+        return neighbour.isValid() && neighbour.isMature();
+    }
+
+    /**
+     * Selects and sorts the candidate parents within an array, without allocating
+     * @param neighbours the neighbours, the candidates are moved to the front of the array
+     * @param count the number of neighbours in the array
+     * @param random pseudo-random generator
+     * @return the number of candidates
+     */
+    protected int selectAndSortCandidates(IAgriCrop[] neighbours, int count, Random random) {
+        // Valid, mature and fertile crops only
+        int eligible = 0;
+        for(int i = 0; i < count; i++) {
+            IAgriCrop neighbour = neighbours[i];
+            if(neighbour != null && neighbour.isValid() && neighbour.isMature() && neighbour.isFertile()) {
+                neighbours[eligible++] = neighbour;
+            }
+        }
+        // Stable insertion sort based on fertility stat
+        for(int i = 1; i < eligible; i++) {
+            IAgriCrop crop = neighbours[i];
+            int key = this.sorter(crop);
+            int j = i - 1;
+            while(j >= 0 && this.sorter(neighbours[j]) > key) {
+                neighbours[j + 1] = neighbours[j];
+                j--;
+            }
+            neighbours[j + 1] = crop;
+        }
+        // Roll for fertility stat
+        int selected = 0;
+        for(int i = 0; i < eligible; i++) {
+            if(this.rollFertility(neighbours[i], random)) {
+                neighbours[selected++] = neighbours[i];
+            }
+        }
+        return selected;
+    }
+
     @Nonnull
     protected List<IAgriCrop> selectAndSortCandidates(Stream<IAgriCrop> neighbours, Random random) {
         return neighbours
@@ -7,7 +7,7 @@ import com.infinityraider.agricraft.api.v1.stat.IAgriStat;
 import com.infinityraider.agricraft.impl.v1.stats.AgriStatRegistry;
 import net.minecraft.util.Tuple;
 
-import java.util.Optional;
+import java.util.List;
 import java.util.Random;
 
 /**
@@ -98,17 +98,18 @@ public final class AgriMutationHandler implements IAgriMutationHandler {
                                                       Tuple<IAgriGenome, IAgriGenome> parents, Random random) {
 
             // Search for matching mutations
-            return AgriMutationRegistry.getInstance().getMutationsFromParents(first.trait(), second.trait())
-                    // order them randomly
-                    .sorted((m1, m2) -> random.nextBoolean() ? -1 : 1)
-                    // fetch one
-                    .findAny()
-                    // map it to its child, or to nothing based on the mutation success rate
-                    .flatMap(mutation -> Optional.ofNullable(mutation.getChance() > random.nextDouble() ? mutation.getChild() : null))
-                    // map the result to a new gene pair with either of its parents as second gene
-                    .map(plant -> gene.generateGenePair(gene.getAllele(plant), random.nextBoolean() ? first : second))
-                    // if no mutation was found or if the mutation was unsuccessful, return a gene pair of the parents
-                    .orElse(gene.generateGenePair(first, second));
+            List<IAgriMutation> mutations = AgriMutationRegistry.getInstance().getMutationsFromParents(first.trait(), second.trait());
+            if(!mutations.isEmpty()) {
+                // pick one at random
+                IAgriMutation mutation = mutations.get(random.nextInt(mutations.size()));
+                // roll for the mutation success rate
+                if(mutation.getChance() > random.nextDouble()) {
+                    // return a new gene pair with either of its parents as second gene
+                    return gene.generateGenePair(gene.getAllele(mutation.getChild()), random.nextBoolean() ? first : second);
+                }
+            }
+            // if no mutation was found or if the mutation was unsuccessful, return a gene pair of the parents
+            return gene.generateGenePair(first, second);
         }
     }
 
@@ -133,6 +134,9 @@ public final class AgriMutationHandler implements IAgriMutationHandler {
             int max = mutativity.getMax();
             if(random.nextInt(max) < statValue) {
                 int delta = random.nextInt(max) < (max + statValue)/2 ? 1 : -1;
+                if(gene instanceof GeneStat) {
+                    return ((GeneStat) gene).getAllele(allel.trait() + delta);
+                }
                 return gene.getAllele(allel.trait() + delta);
             } else {
                 return allel;
@@ -1,5 +1,8 @@
 package com.infinityraider.agricraft.impl.v1.genetics;
 
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.infinityraider.agricraft.api.v1.AgriApi;
 import com.infinityraider.agricraft.api.v1.event.AgriRegistryEvent;
@@ -9,6 +12,7 @@ import com.infinityraider.agricraft.api.v1.plant.IAgriPlant;
 import com.infinityraider.agricraft.impl.v1.AgriRegistry;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentMap;
 import java.util.stream.Stream;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -27,12 +31,11 @@ public class AgriMutationRegistry extends AgriRegistry<IAgriMutation> implements
         return INSTANCE;
     }
 
-    // TODO: Update complexities as mutations are added
-    private final Map<IAgriPlant, Integer> complexities;
+    private volatile MutationGraph graph;
+    private volatile ParentIndex index;
 
     private AgriMutationRegistry() {
         super();
-        this.complexities = Maps.newIdentityHashMap();
     }
 
     @Override
@@ -81,32 +84,65 @@ public class AgriMutationRegistry extends AgriRegistry<IAgriMutation> implements
 
     @Override
     public Stream<IAgriMutation> getMutationsFromParents(List<IAgriPlant> plants) {
-        return this.stream().filter(mutation -> mutation.areParentsIn(plants));
+        return this.getIndex().getMutations(plants).stream();
+    }
+
+    /**
+     * Fetches all mutations for which two plants are parents, intended for code paths which are called very frequently
+     * @param first the first plant
+     * @param second the second plant
+     * @return an immutable list of all mutations which can occur from the two plants
+     */
+    public List<IAgriMutation> getMutationsFromParents(IAgriPlant first, IAgriPlant second) {
+        return this.getIndex().getMutations(first, second);
+    }
+
+    private ParentIndex getIndex() {
+        ParentIndex index = this.index;
+        int version = this.getVersion();
+        if(index == null || index.version != version) {
+            index = new ParentIndex(version, this.all());
+            this.index = index;
+        }
+        return index;
     }
 
     @Override
     public int complexity(IAgriPlant plant) {
-        if(!this.complexities.containsKey(plant)) {
-            this.complexities.put(plant, this.calculateComplexity(plant));
+        return this.getGraph().getComplexity(plant);
+    }
+
+    /**
+     * @return the graph of all registered mutations, compiled on first use and kept up to date afterwards
+     */
+    public MutationGraph getGraph() {
+        MutationGraph graph = this.graph;
+        if(graph == null) {
+            synchronized (this) {
+                graph = this.graph;
+                if(graph == null) {
+                    graph = new MutationGraph(this.all());
+                    this.graph = graph;
+                }
+            }
         }
-        return this.complexities.get(plant);
+        return graph;
     }
 
-    private int calculateComplexity(IAgriPlant plant) {
-        // Plants which are not the child of any mutation are assumed to be easily obtainable e.g. from grass drops.
-        // The complexity of such, easily obtainable plants is set to 1, which will be the lowest possible value.
-        // Complexity of plants obtained through mutations is set equal to the sum of the complexity of the parents.
-        // In case a plant can be obtained through multiple different mutations, the lowest complexity value is used.
-        return this.stream()
-                .filter(mutation -> mutation.getChild().equals(plant))
-                .mapToInt(this::sumParentsComplexity)
-                .min()
-                .orElse(1);
+    @Override
+    protected void onAdded(@Nonnull IAgriMutation element) {
+        MutationGraph graph = this.graph;
+        if(graph != null) {
+            graph.add(element);
+        }
     }
 
-    private int sumParentsComplexity(IAgriMutation mutation) {
-        // TODO: Ensure no infinite loops can originate here
-        return mutation.getParents().stream().mapToInt(this::complexity).sum();
+    @Override
+    protected void onRemoved(@Nonnull IAgriMutation element) {
+        MutationGraph graph = this.graph;
+        if(graph != null) {
+            graph.remove(element);
+        }
     }
 
     @Nullable
@@ -114,4 +150,68 @@ public class AgriMutationRegistry extends AgriRegistry<IAgriMutation> implements
     protected AgriRegistryEvent<IAgriMutation> createEvent(IAgriMutation element) {
         return new AgriRegistryEvent.Mutation(this, element);
     }
+
+    /**
+     * Indexes the mutations by their set of distinct parents, and memoises the mutations found for each set of plants.
+     * A mutation can occur when all of its parents are among the plants, so the mutations for a set of plants are those
+     * indexed by any of its subsets. The index is rebuilt whenever the registry changes.
+     */
+    private static final class ParentIndex {
+        // Above this amount of distinct plants, enumerating subsets is more expensive than checking every mutation
+        private static final int MAX_SUBSET_PLANTS = 8;
+
+        private final int version;
+        private final Collection<IAgriMutation> mutations;
+        private final Map<Set<IAgriPlant>, List<IAgriMutation>> byParents;
+        private final ConcurrentMap<Set<IAgriPlant>, List<IAgriMutation>> byPlants;
+        private final ConcurrentMap<IAgriPlant, ConcurrentMap<IAgriPlant, List<IAgriMutation>>> byPair;
+
+        private ParentIndex(int version, Collection<IAgriMutation> mutations) {
+            this.version = version;
+            this.mutations = ImmutableList.copyOf(mutations);
+            Map<Set<IAgriPlant>, List<IAgriMutation>> byParents = Maps.newHashMap();
+            for(IAgriMutation mutation : this.mutations) {
+                byParents.computeIfAbsent(ImmutableSet.copyOf(mutation.getParents()), key -> Lists.newArrayList()).add(mutation);
+            }
+            this.byParents = Maps.newHashMap();
+            byParents.forEach((parents, list) -> this.byParents.put(parents, ImmutableList.copyOf(list)));
+            this.byPlants = Maps.newConcurrentMap();
+            this.byPair = Maps.newConcurrentMap();
+        }
+
+        private List<IAgriMutation> getMutations(IAgriPlant first, IAgriPlant second) {
+            return this.byPair.computeIfAbsent(first, key -> Maps.newConcurrentMap())
+                    .computeIfAbsent(second, key -> this.getMutations(ImmutableSet.of(first, second)));
+        }
+
+        private List<IAgriMutation> getMutations(Collection<IAgriPlant> plants) {
+            return this.byPlants.computeIfAbsent(ImmutableSet.copyOf(plants), this::collect);
+        }
+
+        private List<IAgriMutation> collect(Set<IAgriPlant> plants) {
+            ImmutableList.Builder<IAgriMutation> builder = ImmutableList.builder();
+            if(plants.size() > MAX_SUBSET_PLANTS) {
+                for(IAgriMutation mutation : this.mutations) {
+                    if(mutation.areParentsIn(plants)) {
+                        builder.add(mutation);
+                    }
+                }
+                return builder.build();
+            }
+            IAgriPlant[] array = plants.toArray(new IAgriPlant[0]);
+            for(int mask = 1; mask < (1 << array.length); mask++) {
+                ImmutableSet.Builder<IAgriPlant> subset = ImmutableSet.builder();
+                for(int i = 0; i < array.length; i++) {
+                    if((mask & (1 << i)) != 0) {
+                        subset.add(array[i]);
+                    }
+                }
+                List<IAgriMutation> list = this.byParents.get(subset.build());
+                if(list != null) {
+                    builder.addAll(list);
+                }
+            }
+            return builder.build();
+        }
+    }
 }
@@ -0,0 +1,500 @@
+package com.infinityraider.agricraft.impl.v1.genetics;
+
+import com.google.common.collect.ImmutableList;
+import com.infinityraider.agricraft.api.v1.crop.IAgriCrop;
+import com.infinityraider.agricraft.api.v1.crop.IAgriGrowthStage;
+import com.infinityraider.agricraft.api.v1.fertilizer.IAgriFertilizer;
+import com.infinityraider.agricraft.api.v1.genetics.IAgriGenome;
+import com.infinityraider.agricraft.api.v1.genetics.IAgriMutationEngine;
+import com.infinityraider.agricraft.api.v1.items.IAgriRakeItem;
+import com.infinityraider.agricraft.api.v1.plant.IAgriPlant;
+import com.infinityraider.agricraft.api.v1.plant.IAgriWeed;
+import com.infinityraider.agricraft.api.v1.seed.AgriSeed;
+import com.infinityraider.agricraft.api.v1.soil.IAgriSoil;
+import com.infinityraider.agricraft.api.v1.stat.IAgriStat;
+import com.infinityraider.agricraft.api.v1.stat.IAgriStatsMap;
+import com.infinityraider.agricraft.impl.v1.crop.NoGrowth;
+import com.infinityraider.agricraft.impl.v1.plant.NoPlant;
+import com.infinityraider.agricraft.impl.v1.plant.NoWeed;
+import com.infinityraider.agricraft.impl.v1.stats.AgriStatRegistry;
+import com.infinityraider.agricraft.impl.v1.stats.NoStats;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import net.minecraft.entity.LivingEntity;
+import net.minecraft.item.ItemStack;
+import net.minecraft.util.ActionResultType;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.text.ITextComponent;
+import net.minecraft.world.World;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.*;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Predicts how many generations a breeding setup needs to reach a goal, by running the actual mutation engine
+ * on crops which only exist in memory.
+ *
+ * Every trial starts from the same parents around a single cross crop. Mutation ticks are applied to the cross crop until
+ * a child is spawned, which counts as one generation. The child then replaces the parent with the lowest total stats,
+ * unless its own total is lower. A trial succeeds as soon as a child satisfies the goal.
+ *
+ * Trials run in parallel, each with its own random generator split from the seed up front,
+ * so the results only depend on the seed and not on the scheduling of the threads.
+ */
+public class BreedingSimulator {
+    // Mutation ticks per generation after which a trial is considered stuck
+    private static final int MAX_TICKS_PER_GENERATION = 10000;
+
+    private final IAgriMutationEngine engine;
+    private final List<IAgriGenome> parents;
+    private final Predicate<IAgriGenome> goal;
+    private final int maxGenerations;
+
+    /**
+     * @param engine the mutation engine to simulate
+     * @param parents the genomes of the parents around the cross crop at the start of each trial, at most four
+     * @param goal the goal of the breeding setup
+     * @param maxGenerations the amount of generations after which a trial is considered to have failed
+     */
+    public BreedingSimulator(IAgriMutationEngine engine, List<IAgriGenome> parents, Predicate<IAgriGenome> goal, int maxGenerations) {
+        if(parents.isEmpty() || parents.size() > 4) {
+            throw new IllegalArgumentException("A cross crop can have one to four parents");
+        }
+        this.engine = engine;
+        this.parents = ImmutableList.copyOf(parents);
+        this.goal = goal;
+        this.maxGenerations = maxGenerations;
+    }
+
+    /**
+     * Creates a goal which is met when all stats are at least a certain value
+     * @param value the value
+     * @return the goal
+     */
+    public static Predicate<IAgriGenome> allStatsAtLeast(int value) {
+        return genome -> {
+            for(IAgriStat stat : AgriStatRegistry.getInstance().all()) {
+                if(genome.getStats().getValue(stat) < Math.min(value, stat.getMax())) {
+                    return false;
+                }
+            }
+            return true;
+        };
+    }
+
+    /**
+     * Runs the simulation on the common ForkJoinPool
+     * @param trials the number of trials
+     * @param seed the seed
+     * @return the results
+     */
+    public Result run(int trials, long seed) {
+        return this.run(trials, seed, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Runs the simulation
+     * @param trials the number of trials
+     * @param seed the seed
+     * @param pool the pool to run the trials on
+     * @return the results
+     */
+    public Result run(int trials, long seed, ForkJoinPool pool) {
+        return this.run(trials, seed, pool, Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Runs the simulation, giving up once a time limit has passed
+     * @param trials the number of trials
+     * @param seed the seed
+     * @param pool the pool to run the trials on
+     * @param timeout the time limit
+     * @param unit the unit of the time limit
+     * @return the results
+     * @throws CancellationException if the time limit passed before all trials finished
+     */
+    public Result run(int trials, long seed, ForkJoinPool pool, long timeout, TimeUnit unit) {
+        long start = System.nanoTime();
+        long limit = unit.toNanos(timeout);
+        SplittableRandom root = new SplittableRandom(seed);
+        SplittableRandom[] randoms = new SplittableRandom[trials];
+        for(int i = 0; i < trials; i++) {
+            randoms[i] = root.split();
+        }
+        int[] generations = pool.submit(() -> IntStream.range(0, trials).parallel()
+                .map(i -> this.simulate(new SplittableRandomAdapter(randoms[i]), start, limit))
+                .toArray()
+        ).join();
+        return new Result(generations);
+    }
+
+    /**
+     * Runs a single trial
+     * @param random the random generator for the trial
+     * @param start the time at which the simulation started, in nanoseconds
+     * @param limit the time limit of the simulation, in nanoseconds
+     * @return the number of generations to reach the goal, or -1 if the trial failed
+     * @throws CancellationException if the time limit has passed
+     */
+    protected int simulate(Random random, long start, long limit) {
+        SimulatedCrop[] parents = new SimulatedCrop[this.parents.size()];
+        for(int i = 0; i < parents.length; i++) {
+            parents[i] = new SimulatedCrop(this.parents.get(i));
+        }
+        SimulatedCrop crossCrop = new SimulatedCrop(null);
+        IAgriCrop[] neighbours = new IAgriCrop[parents.length];
+        for(int generation = 1; generation <= this.maxGenerations; generation++) {
+            if(System.nanoTime() - start > limit) {
+                throw new CancellationException("The breeding simulation exceeded its time limit");
+            }
+            crossCrop.reset();
+            int ticks = 0;
+            do {
+                if(ticks++ >= MAX_TICKS_PER_GENERATION) {
+                    return -1;
+                }
+                // The engine may reorder the neighbours, so pass a fresh copy every tick
+                System.arraycopy(parents, 0, neighbours, 0, parents.length);
+            } while(!this.engine.handleMutationTick(crossCrop, neighbours, parents.length, random));
+            IAgriGenome child = crossCrop.genome;
+            if(child == null) {
+                return -1;
+            }
+            if(this.goal.test(child)) {
+                return generation;
+            }
+            // Replace the weakest parent
+            int weakest = 0;
+            for(int i = 1; i < parents.length; i++) {
+                if(totalStats(parents[i].genome) < totalStats(parents[weakest].genome)) {
+                    weakest = i;
+                }
+            }
+            if(totalStats(child) >= totalStats(parents[weakest].genome)) {
+                parents[weakest] = new SimulatedCrop(child);
+            }
+        }
+        return -1;
+    }
+
+    private static int totalStats(IAgriGenome genome) {
+        int total = 0;
+        for(IAgriStat stat : AgriStatRegistry.getInstance().all()) {
+            total += genome.getStats().getValue(stat);
+        }
+        return total;
+    }
+
+    /**
+     * The outcome of a simulation
+     */
+    public static final class Result {
+        private final int trials;
+        private final int[] generations;
+
+        private Result(int[] results) {
+            this.trials = results.length;
+            this.generations = Arrays.stream(results).filter(value -> value > 0).sorted().toArray();
+        }
+
+        /**
+         * @return the number of trials which were run
+         */
+        public int getTrials() {
+            return this.trials;
+        }
+
+        /**
+         * @return the number of trials which reached the goal
+         */
+        public int getSuccesses() {
+            return this.generations.length;
+        }
+
+        /**
+         * @return the fraction of trials which reached the goal
+         */
+        public double getSuccessRate() {
+            return this.trials == 0 ? 0 : ((double) this.getSuccesses()) / this.trials;
+        }
+
+        /**
+         * @return the mean number of generations of the successful trials, or NaN if there were none
+         */
+        public double getMean() {
+            return Arrays.stream(this.generations).average().orElse(Double.NaN);
+        }
+
+        /**
+         * @return the median number of generations of the successful trials, or -1 if there were none
+         */
+        public int getMedian() {
+            return this.getPercentile(50);
+        }
+
+        /**
+         * @param percentile the percentile, between 0 and 100
+         * @return the percentile of the number of generations of the successful trials, or -1 if there were none
+         */
+        public int getPercentile(double percentile) {
+            if(this.generations.length == 0) {
+                return -1;
+            }
+            int rank = (int) Math.ceil(percentile / 100 * this.generations.length);
+            return this.generations[Math.max(0, Math.min(this.generations.length - 1, rank - 1))];
+        }
+
+        /**
+         * @return the sorted number of generations of all successful trials
+         */
+        public int[] getGenerations() {
+            return this.generations.clone();
+        }
+    }
+
+    /**
+     * The mutation engine needs a java.util.Random, SplittableRandom is not one
+     */
+    private static final class SplittableRandomAdapter extends Random {
+        private final SplittableRandom random;
+
+        private SplittableRandomAdapter(SplittableRandom random) {
+            this.random = random;
+        }
+
+        @Override
+        protected int next(int bits) {
+            return (int) (this.random.nextLong() >>> (64 - bits));
+        }
+    }
+
+    /**
+     * A crop without a world, which only holds a genome
+     */
+    private static final class SimulatedCrop implements IAgriCrop {
+        private IAgriGenome genome;
+        private boolean crossCrop;
+
+        private SimulatedCrop(@Nullable IAgriGenome genome) {
+            this.genome = genome;
+            this.crossCrop = genome == null;
+        }
+
+        private void reset() {
+            this.genome = null;
+            this.crossCrop = true;
+        }
+
+        @Override
+        public boolean isValid() {
+            return true;
+        }
+
+        @Override
+        public World getWorld() {
+            return null;
+        }
+
+        @Override
+        public BlockPos getPosition() {
+            return BlockPos.ZERO;
+        }
+
+        @Override
+        public BlockState getBlockState() {
+            return Blocks.AIR.getDefaultState();
+        }
+
+        @Nonnull
+        @Override
+        public IAgriGrowthStage getGrowthStage() {
+            // Parents are fully grown
+            if(this.hasPlant()) {
+                for(IAgriGrowthStage stage : this.getPlant().getGrowthStages()) {
+                    if(stage.isFinal()) {
+                        return stage;
+                    }
+                }
+            }
+            return NoGrowth.getInstance();
+        }
+
+        @Override
+        public boolean setGrowthStage(@Nonnull IAgriGrowthStage stage) {
+            return false;
+        }
+
+        @Override
+        public boolean isCrossCrop() {
+            return this.crossCrop;
+        }
+
+        @Override
+        public boolean setCrossCrop(boolean status) {
+            this.crossCrop = status;
+            return true;
+        }
+
+        @Override
+        public boolean isFertile() {
+            return true;
+        }
+
+        @Override
+        public boolean isMature() {
+            return this.hasPlant();
+        }
+
+        @Override
+        public boolean isFullyGrown() {
+            return this.hasPlant();
+        }
+
+        @Override
+        public Optional<IAgriSoil> getSoil() {
+            return Optional.empty();
+        }
+
+        @Override
+        public void breakCrop(@Nullable LivingEntity entity) {}
+
+        @Override
+        public Stream<IAgriCrop> streamNeighbours() {
+            return Stream.empty();
+        }
+
+        @Override
+        public void dropItem(ItemStack item) {}
+
+        @Override
+        public boolean hasPlant() {
+            return this.genome != null && this.genome.hasPlant();
+        }
+
+        @Nonnull
+        @Override
+        public IAgriPlant getPlant() {
+            return this.genome == null ? NoPlant.getInstance() : this.genome.getPlant();
+        }
+
+        @Override
+        public boolean hasSeed() {
+            return this.hasPlant();
+        }
+
+        @Nonnull
+        @Override
+        public Optional<IAgriGenome> getGenome() {
+            return Optional.ofNullable(this.genome);
+        }
+
+        @Nonnull
+        @Override
+        public Optional<AgriSeed> getSeed() {
+            return this.getGenome().map(AgriSeed::new);
+        }
+
+        @Override
+        public boolean acceptsSeed(@Nonnull AgriSeed seed) {
+            return this.genome == null;
+        }
+
+        @Override
+        public boolean setGenome(@Nonnull IAgriGenome genome) {
+            this.genome = genome;
+            return true;
+        }
+
+        @Override
+        public boolean plantSeed(@Nonnull AgriSeed seed) {
+            return this.setGenome(seed.getGenome());
+        }
+
+        @Override
+        public boolean plantSeed(@Nonnull AgriSeed seed, @Nullable LivingEntity entity) {
+            return this.plantSeed(seed);
+        }
+
+        @Override
+        public boolean removeSeed() {
+            this.genome = null;
+            return true;
+        }
+
+        @Nonnull
+        @Override
+        public IAgriStatsMap getStats() {
+            return this.genome == null ? NoStats.getInstance() : this.genome.getStats();
+        }
+
+        @Override
+        public boolean acceptsFertilizer(@Nonnull IAgriFertilizer fertilizer) {
+            return false;
+        }
+
+        @Override
+        public void onApplyFertilizer(@Nonnull IAgriFertilizer fertilizer, @Nonnull Random rand) {}
+
+        @Override
+        public void applyGrowthTick() {}
+
+        @Override
+        public boolean canBeHarvested(@Nullable LivingEntity entity) {
+            return false;
+        }
+
+        @Nonnull
+        @Override
+        public ActionResultType harvest(@Nonnull Consumer<ItemStack> consumer, @Nullable LivingEntity entity) {
+            return ActionResultType.FAIL;
+        }
+
+        @Override
+        public boolean hasWeeds() {
+            return false;
+        }
+
+        @Nonnull
+        @Override
+        public IAgriWeed getWeeds() {
+            return NoWeed.getInstance();
+        }
+
+        @Nonnull
+        @Override
+        public IAgriGrowthStage getWeedGrowthStage() {
+            return NoGrowth.getInstance();
+        }
+
+        @Override
+        public boolean setWeed(@Nonnull IAgriWeed weed, @Nonnull IAgriGrowthStage stage) {
+            return false;
+        }
+
+        @Override
+        public boolean removeWeed() {
+            return false;
+        }
+
+        @Override
+        public boolean canBeRaked(@Nonnull IAgriRakeItem item, @Nonnull ItemStack stack, @Nullable LivingEntity entity) {
+            return false;
+        }
+
+        @Override
+        public boolean rake(@Nonnull Consumer<ItemStack> consumer, @Nullable LivingEntity entity) {
+            return false;
+        }
+
+        @Override
+        public void addDisplayInfo(@Nonnull Consumer<ITextComponent> consumer) {}
+    }
+}
@@ -1,14 +1,15 @@
 package com.infinityraider.agricraft.impl.v1.genetics;
 
-import com.infinityraider.agricraft.AgriCraft;
 import com.infinityraider.agricraft.api.v1.AgriApi;
 import com.infinityraider.agricraft.api.v1.genetics.IAgriGene;
 import com.infinityraider.agricraft.api.v1.genetics.IAgriGenePair;
 import com.infinityraider.agricraft.api.v1.genetics.IAllele;
 import com.infinityraider.agricraft.api.v1.genetics.IMutator;
 import com.infinityraider.agricraft.api.v1.plant.IAgriPlant;
+import com.infinityraider.agricraft.impl.v1.plant.AgriPlantRegistry;
 import com.infinityraider.agricraft.impl.v1.plant.NoPlant;
 import com.infinityraider.agricraft.reference.AgriNBT;
+import com.infinityraider.agricraft.reference.Reference;
 import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.util.math.vector.Vector3f;
 import net.minecraft.util.text.TranslationTextComponent;
@@ -36,7 +37,7 @@ public class GeneSpecies implements IAgriGene<IAgriPlant> {
 
     private GeneSpecies() {
         this.id = "agri_species";
-        this.descr = new TranslationTextComponent(AgriCraft.instance.getModId() + ".gene." + this.id);
+        this.descr = new TranslationTextComponent(Reference.MOD_ID + ".gene." + this.id);
     }
 
     @Nonnull
@@ -54,7 +55,8 @@ public class GeneSpecies implements IAgriGene<IAgriPlant> {
     @Nonnull
     @Override
     public IAgriPlant readAlleleFromNBT(@Nonnull CompoundNBT tag) {
-        return AgriApi.getPlantRegistry().get(tag.getString(AgriNBT.PLANT)).orElse(NoPlant.getInstance());
+        IAgriPlant plant = AgriPlantRegistry.getInstance().getOrNull(tag.getString(AgriNBT.PLANT));
+        return plant == null ? NoPlant.getInstance() : plant;
     }
 
     @Nonnull
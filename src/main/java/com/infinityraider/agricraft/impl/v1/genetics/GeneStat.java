@@ -19,17 +19,20 @@ public class GeneStat implements IAgriGene<Integer> {
     private final IAgriStat stat;
     private final IAllele<Integer> defaultAllele;
     private final Set<IAllele<Integer>> alleles;
+    // Alleles indexed by their value minus the minimum value
+    private final StatAllele[] alleleArray;
     private final Vector3f colorDominant;
     private final Vector3f colorRecessive;
 
     public GeneStat(IAgriStat stat) {
         this.stat = stat;
-        this.defaultAllele = new StatAllele(this, this.getStat().getMin());
-        ImmutableSet.Builder<IAllele<Integer>> builder = ImmutableSet.builder();
-        for(int i = this.getStat().getMin(); i <= this.getStat().getMax(); i++) {
-            builder.add(i == this.getStat().getMin() ? this.defaultAllele : new StatAllele(this, i));
+        int min = this.getStat().getMin();
+        this.alleleArray = new StatAllele[Math.max(1, this.getStat().getMax() - min + 1)];
+        for(int i = 0; i < this.alleleArray.length; i++) {
+            this.alleleArray[i] = new StatAllele(this, min + i);
         }
-        this.alleles = builder.build();
+        this.defaultAllele = this.alleleArray[0];
+        this.alleles = ImmutableSet.copyOf(this.alleleArray);
         this.colorDominant = stat.getColor();
         this.colorRecessive = getRecessiveVector(stat.getColor());
     }
@@ -59,10 +62,18 @@ public class GeneStat implements IAgriGene<Integer> {
     @Nonnull
     @Override
     public IAllele<Integer> getAllele(Integer value) {
-        final int val = Math.max(this.getMin(), Math.min(this.getMax(), value));
-        return this.allAlleles().stream()
-                .filter(allel -> allel.trait() == val)
-                .findFirst().orElse(this.defaultAllele());
+        return value == null ? this.defaultAllele() : this.getAllele(value.intValue());
+    }
+
+    /**
+     * Fetches the allele for a value without boxing, values outside of the stat's range are clamped
+     * @param value the value
+     * @return the allele for the value
+     */
+    @Nonnull
+    public IAllele<Integer> getAllele(int value) {
+        int index = value - this.alleleArray[0].value;
+        return this.alleleArray[Math.max(0, Math.min(this.alleleArray.length - 1, index))];
     }
 
     @Nonnull
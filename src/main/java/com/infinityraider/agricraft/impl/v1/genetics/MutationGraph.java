@@ -0,0 +1,326 @@
+package com.infinityraider.agricraft.impl.v1.genetics;
+
+import com.agricraft.agricore.core.AgriCore;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import com.infinityraider.agricraft.api.v1.genetics.IAgriMutation;
+import com.infinityraider.agricraft.api.v1.plant.IAgriPlant;
+
+import java.util.*;
+
+/**
+ * Compiles the registered mutations into a graph from parent plants to child plants, and computes the complexity of
+ * every plant on it.
+ *
+ * Plants which are not the child of any mutation are assumed to be easily obtainable e.g. from grass drops, their
+ * complexity is 1, which is the lowest possible value. The complexity of plants obtained through mutations is the sum
+ * of the complexities of the parents, in case a plant can be obtained through multiple mutations, the lowest value is used.
+ *
+ * Complexities are computed in topological order, all plants at the same depth of the graph are computed in parallel.
+ * Plants on a cycle of mutations have no topological order, these are resolved from the cheapest mutation which does
+ * not depend on the cycle. Whenever a mutation is added or removed, only its child and the descendants of the child
+ * are recomputed.
+ */
+public final class MutationGraph {
+    private static final int BASE_COMPLEXITY = 1;
+
+    private final Map<IAgriPlant, List<IAgriMutation>> producers;
+    private final Map<IAgriPlant, List<IAgriMutation>> consumers;
+    private final Map<IAgriPlant, Integer> complexities;
+
+    // Lazily recomputed after the graph changes
+    private List<IAgriPlant> order;
+    private Set<IAgriPlant> cyclic;
+
+    public MutationGraph(Collection<IAgriMutation> mutations) {
+        this.producers = Maps.newHashMap();
+        this.consumers = Maps.newHashMap();
+        this.complexities = Maps.newConcurrentMap();
+        for(IAgriMutation mutation : mutations) {
+            this.link(mutation);
+        }
+        this.computeAll();
+    }
+
+    /**
+     * @param plant a plant
+     * @return the complexity of the plant
+     */
+    public int getComplexity(IAgriPlant plant) {
+        Integer complexity = this.complexities.get(plant);
+        return complexity == null ? BASE_COMPLEXITY : complexity;
+    }
+
+    /**
+     * @param plant a plant
+     * @return an immutable list of all mutations which have the plant as child
+     */
+    public synchronized List<IAgriMutation> getMutationsForChild(IAgriPlant plant) {
+        return ImmutableList.copyOf(this.producers.getOrDefault(plant, Collections.emptyList()));
+    }
+
+    /**
+     * @param plant a plant
+     * @return an immutable list of all mutations which have the plant as one of their parents
+     */
+    public synchronized List<IAgriMutation> getMutationsForParent(IAgriPlant plant) {
+        return ImmutableList.copyOf(this.consumers.getOrDefault(plant, Collections.emptyList()));
+    }
+
+    /**
+     * @return all plants in the graph, sorted so that every plant comes after the parents of its mutations,
+     * plants on cycles are omitted
+     */
+    public synchronized List<IAgriPlant> getTopologicalOrder() {
+        if(this.order == null) {
+            this.sort();
+        }
+        return this.order;
+    }
+
+    /**
+     * @return all plants in the graph which are on, or depend on, a cycle of mutations
+     */
+    public synchronized Set<IAgriPlant> getCyclicPlants() {
+        if(this.cyclic == null) {
+            this.sort();
+        }
+        return this.cyclic;
+    }
+
+    /**
+     * Adds a mutation to the graph and recomputes the complexities which are affected by it
+     * @param mutation the mutation
+     */
+    public synchronized void add(IAgriMutation mutation) {
+        if(this.link(mutation)) {
+            this.update(mutation.getChild());
+        }
+    }
+
+    /**
+     * Removes a mutation from the graph and recomputes the complexities which are affected by it
+     * @param mutation the mutation
+     */
+    public synchronized void remove(IAgriMutation mutation) {
+        if(this.unlink(mutation)) {
+            this.update(mutation.getChild());
+        }
+    }
+
+    private boolean link(IAgriMutation mutation) {
+        List<IAgriMutation> list = this.producers.computeIfAbsent(mutation.getChild(), plant -> Lists.newArrayList());
+        if(list.contains(mutation)) {
+            return false;
+        }
+        list.add(mutation);
+        for(IAgriPlant parent : ImmutableSet.copyOf(mutation.getParents())) {
+            this.consumers.computeIfAbsent(parent, plant -> Lists.newArrayList()).add(mutation);
+        }
+        this.order = null;
+        this.cyclic = null;
+        return true;
+    }
+
+    private boolean unlink(IAgriMutation mutation) {
+        List<IAgriMutation> list = this.producers.get(mutation.getChild());
+        if(list == null || !list.remove(mutation)) {
+            return false;
+        }
+        for(IAgriPlant parent : ImmutableSet.copyOf(mutation.getParents())) {
+            List<IAgriMutation> consumers = this.consumers.get(parent);
+            if(consumers != null) {
+                consumers.remove(mutation);
+            }
+        }
+        this.order = null;
+        this.cyclic = null;
+        return true;
+    }
+
+    private Set<IAgriPlant> plants() {
+        Set<IAgriPlant> plants = Sets.newHashSet(this.producers.keySet());
+        plants.addAll(this.consumers.keySet());
+        return plants;
+    }
+
+    /**
+     * Sorts the graph with Kahn's algorithm
+     * @return the plants grouped per depth, every plant only depends on plants in earlier groups
+     */
+    private List<List<IAgriPlant>> sort() {
+        Set<IAgriPlant> plants = this.plants();
+        Map<IAgriPlant, Integer> inDegree = Maps.newHashMap();
+        for(IAgriPlant plant : plants) {
+            int degree = 0;
+            for(IAgriMutation mutation : this.producers.getOrDefault(plant, Collections.emptyList())) {
+                degree += ImmutableSet.copyOf(mutation.getParents()).size();
+            }
+            inDegree.put(plant, degree);
+        }
+        List<List<IAgriPlant>> levels = Lists.newArrayList();
+        List<IAgriPlant> level = Lists.newArrayList();
+        inDegree.forEach((plant, degree) -> {
+            if(degree == 0) {
+                level.add(plant);
+            }
+        });
+        List<IAgriPlant> order = Lists.newArrayListWithCapacity(plants.size());
+        List<IAgriPlant> current = level;
+        while(!current.isEmpty()) {
+            levels.add(current);
+            order.addAll(current);
+            List<IAgriPlant> next = Lists.newArrayList();
+            for(IAgriPlant plant : current) {
+                for(IAgriMutation mutation : this.consumers.getOrDefault(plant, Collections.emptyList())) {
+                    IAgriPlant child = mutation.getChild();
+                    int degree = inDegree.get(child) - 1;
+                    inDegree.put(child, degree);
+                    if(degree == 0) {
+                        next.add(child);
+                    }
+                }
+            }
+            current = next;
+        }
+        Set<IAgriPlant> cyclic = Sets.newHashSet(plants);
+        order.forEach(cyclic::remove);
+        this.order = ImmutableList.copyOf(order);
+        this.cyclic = ImmutableSet.copyOf(cyclic);
+        return levels;
+    }
+
+    private void computeAll() {
+        this.complexities.clear();
+        // Plants at the same depth only depend on plants at lower depths, so these can be computed in parallel
+        for(List<IAgriPlant> level : this.sort()) {
+            level.parallelStream().forEach(plant -> this.complexities.put(plant, this.evaluate(plant)));
+        }
+        if(!this.cyclic.isEmpty()) {
+            AgriCore.getLogger("agricraft").warn("Detected cyclic mutations for {0} plants", this.cyclic.size());
+            this.relax(this.cyclic);
+        }
+    }
+
+    private int evaluate(IAgriPlant plant) {
+        List<IAgriMutation> mutations = this.producers.get(plant);
+        if(mutations == null || mutations.isEmpty()) {
+            return BASE_COMPLEXITY;
+        }
+        int min = Integer.MAX_VALUE;
+        for(IAgriMutation mutation : mutations) {
+            int sum = 0;
+            for(IAgriPlant parent : mutation.getParents()) {
+                sum = add(sum, this.getComplexity(parent));
+            }
+            min = Math.min(min, sum);
+        }
+        return min;
+    }
+
+    private void update(IAgriPlant child) {
+        // Collect the child and all of its descendants
+        Set<IAgriPlant> dirty = Sets.newHashSet();
+        Deque<IAgriPlant> queue = new ArrayDeque<>();
+        queue.add(child);
+        while(!queue.isEmpty()) {
+            IAgriPlant plant = queue.poll();
+            if(dirty.add(plant)) {
+                for(IAgriMutation mutation : this.consumers.getOrDefault(plant, Collections.emptyList())) {
+                    queue.add(mutation.getChild());
+                }
+            }
+        }
+        this.relax(dirty);
+    }
+
+    /**
+     * Recomputes the complexities for a set of plants, the complexities of all other plants are considered final.
+     * This is a variant of Dijkstra's algorithm for hypergraphs: a mutation becomes a candidate for its child as soon as
+     * the complexities of all of its parents are final, and candidates are finalized from cheapest to most expensive.
+     * @param dirty the plants to recompute
+     */
+    private void relax(Set<IAgriPlant> dirty) {
+        Map<IAgriMutation, int[]> pending = Maps.newIdentityHashMap();
+        PriorityQueue<Candidate> queue = new PriorityQueue<>();
+        for(IAgriPlant plant : dirty) {
+            List<IAgriMutation> mutations = this.producers.get(plant);
+            if(mutations == null || mutations.isEmpty()) {
+                queue.add(new Candidate(plant, BASE_COMPLEXITY));
+                continue;
+            }
+            for(IAgriMutation mutation : mutations) {
+                // Remaining parents and partial sum
+                int[] state = new int[2];
+                for(IAgriPlant parent : mutation.getParents()) {
+                    if(dirty.contains(parent)) {
+                        state[0]++;
+                    } else {
+                        state[1] = add(state[1], this.getComplexity(parent));
+                    }
+                }
+                if(state[0] == 0) {
+                    queue.add(new Candidate(plant, state[1]));
+                } else {
+                    pending.put(mutation, state);
+                }
+            }
+        }
+        Set<IAgriPlant> done = Sets.newHashSet();
+        while(done.size() < dirty.size()) {
+            Candidate candidate = queue.poll();
+            if(candidate == null) {
+                // Only cycles without a way in remain, break one at the plant with the lowest id
+                IAgriPlant plant = dirty.stream()
+                        .filter(p -> !done.contains(p))
+                        .min(Comparator.comparing(IAgriPlant::getId))
+                        .orElseThrow(IllegalStateException::new);
+                AgriCore.getLogger("agricraft").warn("Plant {0} can only be obtained through a cycle of mutations", plant.getId());
+                candidate = new Candidate(plant, BASE_COMPLEXITY);
+            }
+            if(!done.add(candidate.plant)) {
+                continue;
+            }
+            this.complexities.put(candidate.plant, candidate.complexity);
+            for(IAgriMutation mutation : this.consumers.getOrDefault(candidate.plant, Collections.emptyList())) {
+                int[] state = pending.get(mutation);
+                if(state == null || done.contains(mutation.getChild())) {
+                    continue;
+                }
+                for(IAgriPlant parent : mutation.getParents()) {
+                    if(parent.equals(candidate.plant)) {
+                        state[0]--;
+                        state[1] = add(state[1], candidate.complexity);
+                    }
+                }
+                if(state[0] == 0) {
+                    queue.add(new Candidate(mutation.getChild(), state[1]));
+                }
+            }
+        }
+    }
+
+    // Deep mutation trees can overflow, saturate instead
+    private static int add(int a, int b) {
+        long sum = (long) a + b;
+        return sum > Integer.MAX_VALUE ? Integer.MAX_VALUE : (int) sum;
+    }
+
+    private static final class Candidate implements Comparable<Candidate> {
+        private final IAgriPlant plant;
+        private final int complexity;
+
+        private Candidate(IAgriPlant plant, int complexity) {
+            this.plant = plant;
+            this.complexity = complexity;
+        }
+
+        @Override
+        public int compareTo(Candidate other) {
+            return Integer.compare(this.complexity, other.complexity);
+        }
+    }
+}
@@ -3,6 +3,8 @@ package com.infinityraider.agricraft.impl.v1.plant;
 import com.infinityraider.agricraft.api.v1.event.AgriRegistryEvent;
 import com.infinityraider.agricraft.api.v1.plant.IAgriWeed;
 import com.infinityraider.agricraft.api.v1.plant.IAgriWeedRegistry;
+import com.infinityraider.agricraft.content.core.PackedCropState;
+import com.infinityraider.agricraft.impl.v1.AgriPalette;
 import com.infinityraider.agricraft.impl.v1.AgriRegistry;
 import com.infinityraider.agricraft.impl.v1.crop.AgriGrowthRegistry;
 
@@ -19,8 +21,11 @@ public class AgriWeedRegistry extends AgriRegistry<IAgriWeed> implements IAgriWe
         return INSTANCE;
     }
 
+    private final AgriPalette<IAgriWeed> palette;
+
     private AgriWeedRegistry() {
         super();
+        this.palette = new AgriPalette<>(NO_WEED, PackedCropState.MAX_ID);
         // Register no weed
         this.directAdd(NO_WEED);
     }
@@ -58,4 +63,8 @@ public class AgriWeedRegistry extends AgriRegistry<IAgriWeed> implements IAgriWe
     public IAgriWeed getNoWeed() {
         return NO_WEED;
     }
+
+    public AgriPalette<IAgriWeed> getPalette() {
+        return this.palette;
+    }
 }
@@ -51,6 +51,11 @@ public class JsonWeed implements IAgriWeed {
         return this.weed.getSpawnChance();
     }
 
+    @Override
+    public boolean isSpawnChanceCachable() {
+        return true;
+    }
+
     @Override
     public double getGrowthChance(IAgriGrowthStage growthStage) {
         return this.weed.getGrowthChance();
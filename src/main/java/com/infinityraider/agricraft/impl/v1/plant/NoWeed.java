@@ -59,6 +59,11 @@ public final class NoWeed implements IAgriWeed {
         return 0;
     }
 
+    @Override
+    public boolean isSpawnChanceCachable() {
+        return true;
+    }
+
     @Override
     public double getGrowthChance(IAgriGrowthStage growthStage) {
         return 0;
@@ -0,0 +1,212 @@
+package com.infinityraider.agricraft.impl.v1.plant;
+
+import com.google.common.collect.MapMaker;
+import com.google.common.collect.Maps;
+import com.infinityraider.agricraft.api.v1.crop.IAgriCrop;
+import com.infinityraider.agricraft.api.v1.plant.IAgriWeed;
+import com.infinityraider.agricraft.api.v1.soil.IAgriSoil;
+import com.infinityraider.agricraft.impl.v1.requirement.AgriSoilRegistry;
+import net.minecraft.world.World;
+import net.minecraft.world.biome.Biome;
+
+import javax.annotation.Nullable;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+/**
+ * Samples the weed to spawn on a crop in constant time.
+ *
+ * The spawn chances of all weeds which allow caching are compiled into an alias table for every combination of world,
+ * biome and soil. A crop spawns weeds with the probability that at least one weed succeeds its spawn roll, and the weed
+ * which spawns is then picked proportional to its spawn chance. Contrary to rolling every weed in sequence, this does
+ * not depend on the order in which the weeds are registered. Weeds which do not allow caching their spawn chance are
+ * asked for it on every roll, and are combined with the table following the same probabilities.
+ *
+ * The tables are rebuilt when weeds or soils are added to or removed from their registries.
+ */
+public final class WeedSpawnTable {
+    private static final WeedSpawnTable INSTANCE = new WeedSpawnTable();
+
+    public static WeedSpawnTable getInstance() {
+        return INSTANCE;
+    }
+
+    private static final String NO_SOIL = "";
+
+    // Worlds and biomes are reloaded with every server, do not retain these
+    private final Map<World, Map<Biome, Map<String, Table>>> tables;
+    private volatile IAgriWeed[] uncachedWeeds;
+
+    private volatile int weedVersion;
+    private volatile int soilVersion;
+
+    private WeedSpawnTable() {
+        this.tables = new MapMaker().weakKeys().makeMap();
+        this.uncachedWeeds = new IAgriWeed[0];
+        this.weedVersion = -1;
+        this.soilVersion = -1;
+    }
+
+    /**
+     * Rolls for a weed to spawn on a crop
+     * @param crop the crop
+     * @param random pseudo-random generator
+     * @return the weed to spawn, or null if no weed spawns
+     */
+    @Nullable
+    public IAgriWeed sample(IAgriCrop crop, Random random) {
+        World world = crop.getWorld();
+        if(world == null) {
+            return null;
+        }
+        this.checkVersion();
+        String soil = crop.getSoil().map(IAgriSoil::getId).orElse(NO_SOIL);
+        Map<String, Table> tables = this.tables.computeIfAbsent(world, key -> Maps.newConcurrentMap())
+                .computeIfAbsent(world.getBiome(crop.getPosition()), biome -> Maps.newConcurrentMap());
+        Table table = tables.get(soil);
+        if(table == null) {
+            // The spawn chances in a table only depend on the world, biome and soil, so any crop can define them
+            table = new Table(crop);
+            tables.put(soil, table);
+        }
+        IAgriWeed[] uncached = this.uncachedWeeds;
+        return uncached.length == 0 ? table.sample(random) : this.sample(table, uncached, crop, random);
+    }
+
+    @Nullable
+    private IAgriWeed sample(Table table, IAgriWeed[] uncached, IAgriCrop crop, Random random) {
+        double[] chances = new double[uncached.length];
+        double none = 1 - table.spawnChance;
+        double sum = table.sum;
+        for(int i = 0; i < uncached.length; i++) {
+            chances[i] = Table.chance(uncached[i], crop);
+            none *= 1 - chances[i];
+            sum += chances[i];
+        }
+        if(sum <= 0 || random.nextDouble() >= 1 - none) {
+            return null;
+        }
+        // Pick proportional to the spawn chances, either from the table, or one of the uncached weeds
+        double roll = random.nextDouble() * sum;
+        if(roll < table.sum) {
+            return table.pick(random);
+        }
+        roll -= table.sum;
+        IAgriWeed picked = null;
+        for(int i = 0; i < uncached.length; i++) {
+            if(chances[i] > 0) {
+                picked = uncached[i];
+                if(roll < chances[i]) {
+                    break;
+                }
+                roll -= chances[i];
+            }
+        }
+        return picked;
+    }
+
+    private void checkVersion() {
+        int weeds = AgriWeedRegistry.getInstance().getVersion();
+        int soils = AgriSoilRegistry.getInstance().getVersion();
+        if(weeds != this.weedVersion || soils != this.soilVersion) {
+            this.tables.clear();
+            this.uncachedWeeds = AgriWeedRegistry.getInstance().stream()
+                    .filter(weed -> !weed.isSpawnChanceCachable())
+                    .toArray(IAgriWeed[]::new);
+            this.weedVersion = weeds;
+            this.soilVersion = soils;
+        }
+    }
+
+    /**
+     * Alias table, built with Vose's algorithm
+     */
+    private static final class Table {
+        private final double spawnChance;
+        private final double sum;
+        private final IAgriWeed[] weeds;
+        private final double[] probabilities;
+        private final int[] aliases;
+
+        private Table(IAgriCrop crop) {
+            List<IAgriWeed> weeds = AgriWeedRegistry.getInstance().stream()
+                    .filter(IAgriWeed::isSpawnChanceCachable)
+                    .filter(weed -> chance(weed, crop) > 0)
+                    .collect(Collectors.toList());
+            int n = weeds.size();
+            this.weeds = weeds.toArray(new IAgriWeed[0]);
+            this.probabilities = new double[n];
+            this.aliases = new int[n];
+            double none = 1;
+            double sum = 0;
+            double[] scaled = new double[n];
+            for(int i = 0; i < n; i++) {
+                double chance = chance(this.weeds[i], crop);
+                none *= 1 - chance;
+                sum += chance;
+                scaled[i] = chance;
+            }
+            this.spawnChance = 1 - none;
+            this.sum = sum;
+            if(n == 0) {
+                return;
+            }
+            // Scale the weights so that their average is 1, and split them in under- and overfull columns
+            int[] small = new int[n];
+            int[] large = new int[n];
+            int smallCount = 0;
+            int largeCount = 0;
+            for(int i = 0; i < n; i++) {
+                scaled[i] = scaled[i] * n / sum;
+                if(scaled[i] < 1) {
+                    small[smallCount++] = i;
+                } else {
+                    large[largeCount++] = i;
+                }
+            }
+            // Fill every underfull column with the remainder of an overfull column
+            while(smallCount > 0 && largeCount > 0) {
+                int less = small[--smallCount];
+                int more = large[--largeCount];
+                this.probabilities[less] = scaled[less];
+                this.aliases[less] = more;
+                scaled[more] = (scaled[more] + scaled[less]) - 1;
+                if(scaled[more] < 1) {
+                    small[smallCount++] = more;
+                } else {
+                    large[largeCount++] = more;
+                }
+            }
+            // Remaining columns are full, up to rounding errors
+            while(largeCount > 0) {
+                this.probabilities[large[--largeCount]] = 1;
+            }
+            while(smallCount > 0) {
+                this.probabilities[small[--smallCount]] = 1;
+            }
+        }
+
+        @Nullable
+        private IAgriWeed sample(Random random) {
+            if(this.weeds.length == 0 || random.nextDouble() >= this.spawnChance) {
+                return null;
+            }
+            return this.pick(random);
+        }
+
+        @Nullable
+        private IAgriWeed pick(Random random) {
+            if(this.weeds.length == 0) {
+                return null;
+            }
+            int column = random.nextInt(this.weeds.length);
+            return random.nextDouble() < this.probabilities[column] ? this.weeds[column] : this.weeds[this.aliases[column]];
+        }
+
+        private static double chance(IAgriWeed weed, IAgriCrop crop) {
+            return Math.max(0, Math.min(1, weed.spawnChance(crop)));
+        }
+    }
+}
@@ -6,13 +6,24 @@ import com.infinityraider.agricraft.api.v1.soil.IAgriSoilRegistry;
 
 import java.util.Collection;
 import java.util.Collections;
-import java.util.stream.Collectors;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
 import com.infinityraider.agricraft.impl.v1.AgriRegistry;
 import net.minecraft.block.BlockState;
 
+/**
+ * Soils are looked up with an index from block states to soils, which is rebuilt whenever a soil is added or removed,
+ * or when the tags are reloaded, as soil variants may be defined by tags.
+ */
 public class AgriSoilRegistry extends AgriRegistry<IAgriSoil> implements IAgriSoilRegistry {
     private static final AgriSoilRegistry INSTANCE = new AgriSoilRegistry();
 
@@ -20,6 +31,8 @@ public class AgriSoilRegistry extends AgriRegistry<IAgriSoil> implements IAgriSo
         return INSTANCE;
     }
 
+    private volatile Index index;
+
     private AgriSoilRegistry() {
         super();
     }
@@ -29,7 +42,7 @@ public class AgriSoilRegistry extends AgriRegistry<IAgriSoil> implements IAgriSo
         if(state == null) {
             return false;
         }
-        return this.stream().anyMatch(soil -> soil.isVariant(state));
+        return !this.getIndex().get(state).isEmpty();
     }
 
     @Nonnull
@@ -38,7 +51,51 @@ public class AgriSoilRegistry extends AgriRegistry<IAgriSoil> implements IAgriSo
         if(state == null) {
             return Collections.emptyList();
         }
-        return this.stream().filter(soil -> soil.isVariant(state)).collect(Collectors.toList());
+        return this.getIndex().get(state);
+    }
+
+    /**
+     * @param state a block state
+     * @return an optional holding the first soil the block state is a variant of, or empty if it is not a soil
+     */
+    @Nonnull
+    public Optional<IAgriSoil> getFirst(@Nullable BlockState state) {
+        if(state == null) {
+            return Optional.empty();
+        }
+        List<IAgriSoil> soils = this.getIndex().get(state);
+        return soils.isEmpty() ? Optional.empty() : Optional.of(soils.get(0));
+    }
+
+    /**
+     * Checks if a block state is a variant of a soil, registered soils are checked through the index
+     * @param soil the soil
+     * @param state the block state
+     * @return true if the block state is a variant of the soil
+     */
+    public boolean isVariant(@Nonnull IAgriSoil soil, @Nonnull BlockState state) {
+        Index index = this.getIndex();
+        if(index.isIndexed(soil)) {
+            return index.get(state).contains(soil);
+        }
+        return soil.isVariant(state);
+    }
+
+    /**
+     * Forces the index to be rebuilt on the next lookup, must be called when the variants of soils may have changed
+     */
+    public void invalidateIndex() {
+        this.index = null;
+    }
+
+    private Index getIndex() {
+        int version = this.getVersion();
+        Index index = this.index;
+        if(index == null || index.version != version) {
+            index = new Index(version, this.all());
+            this.index = index;
+        }
+        return index;
     }
 
     @Nullable
@@ -47,4 +104,32 @@ public class AgriSoilRegistry extends AgriRegistry<IAgriSoil> implements IAgriSo
         return new AgriRegistryEvent.Soil(this, element);
     }
 
+    private static final class Index {
+        private final int version;
+        private final Map<BlockState, List<IAgriSoil>> soils;
+        private final Set<IAgriSoil> indexed;
+
+        private Index(int version, Collection<IAgriSoil> soils) {
+            this.version = version;
+            // Block states are singletons, so these can be compared by identity
+            Map<BlockState, ImmutableList.Builder<IAgriSoil>> builders = Maps.newIdentityHashMap();
+            for(IAgriSoil soil : soils) {
+                for(BlockState state : ImmutableSet.copyOf(soil.getVariants())) {
+                    builders.computeIfAbsent(state, key -> ImmutableList.builder()).add(soil);
+                }
+            }
+            this.soils = Maps.newIdentityHashMap();
+            builders.forEach((state, builder) -> this.soils.put(state, builder.build()));
+            this.indexed = Sets.newIdentityHashSet();
+            this.indexed.addAll(soils);
+        }
+
+        private List<IAgriSoil> get(BlockState state) {
+            return this.soils.getOrDefault(state, Collections.emptyList());
+        }
+
+        private boolean isIndexed(IAgriSoil soil) {
+            return this.indexed.contains(soil);
+        }
+    }
 }
@@ -0,0 +1,131 @@
+package com.infinityraider.agricraft.impl.v1.requirement;
+
+import com.google.common.collect.Maps;
+import it.unimi.dsi.fastutil.objects.Reference2LongMap;
+import it.unimi.dsi.fastutil.objects.Reference2LongOpenHashMap;
+import net.minecraft.world.World;
+
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * Caches ambient values, which only depend on the world (e.g. time, dimension), for the duration of a world tick.
+ *
+ * Values are cached per fetcher instance, so every distinct ambient value is fetched at most once per world tick,
+ * regardless of how many crops and conditions depend on it.
+ *
+ * Only server worlds are cached, which are exclusively accessed from the server thread, so the cache is not synchronized.
+ * The entry of the last queried world is kept at hand, and an entry is only invalidated when the game time has changed.
+ * Values for client worlds are fetched directly.
+ */
+public final class AmbientCache {
+    private static final AmbientCache INSTANCE = new AmbientCache();
+
+    public static AmbientCache getInstance() {
+        return INSTANCE;
+    }
+
+    private final Map<World, Entry> worlds;
+
+    // The entry of the last queried world, as crops are ticked world by world
+    private World lastWorld;
+    private Entry lastEntry;
+
+    private AmbientCache() {
+        this.worlds = Maps.newIdentityHashMap();
+    }
+
+    /**
+     * Fetches an ambient value
+     * @param world the world
+     * @param fetcher the fetcher, should be the same instance for every query of the same value
+     * @param <T> the type of the value
+     * @return the value, as it was fetched during the current tick of the world
+     */
+    public <T> T get(World world, Function<World, T> fetcher) {
+        if(world.isRemote()) {
+            return fetcher.apply(world);
+        }
+        return this.getEntry(world).get(world, fetcher);
+    }
+
+    /**
+     * Fetches an ambient long value
+     * @param world the world
+     * @param fetcher the fetcher, should be the same instance for every query of the same value
+     * @return the value, as it was fetched during the current tick of the world
+     */
+    public long getLong(World world, ToLongFunction<World> fetcher) {
+        if(world.isRemote()) {
+            return fetcher.applyAsLong(world);
+        }
+        return this.getEntry(world).getLong(world, fetcher);
+    }
+
+    /**
+     * Removes all cached values for a world, must be called when the world is unloaded
+     * @param world the world
+     */
+    public void clear(World world) {
+        if(world.isRemote()) {
+            return;
+        }
+        this.worlds.remove(world);
+        if(world == this.lastWorld) {
+            this.lastWorld = null;
+            this.lastEntry = null;
+        }
+    }
+
+    private Entry getEntry(World world) {
+        if(world != this.lastWorld) {
+            this.lastEntry = this.worlds.computeIfAbsent(world, Entry::new);
+            this.lastWorld = world;
+        }
+        Entry entry = this.lastEntry;
+        entry.refresh(world);
+        return entry;
+    }
+
+    private static final class Entry {
+        private final Map<Object, Object> values;
+        private final Reference2LongMap<Object> longs;
+        private long tick;
+
+        private Entry(World world) {
+            this.values = Maps.newIdentityHashMap();
+            this.longs = new Reference2LongOpenHashMap<>();
+            this.tick = world.getGameTime();
+        }
+
+        @SuppressWarnings("unchecked")
+        private <T> T get(World world, Function<World, T> fetcher) {
+            Object value = this.values.get(fetcher);
+            if(value == null && !this.values.containsKey(fetcher)) {
+                value = fetcher.apply(world);
+                this.values.put(fetcher, value);
+            }
+            return (T) value;
+        }
+
+        private long getLong(World world, ToLongFunction<World> fetcher) {
+            // Kept apart from the other values to avoid boxing
+            if(this.longs.containsKey(fetcher)) {
+                return this.longs.getLong(fetcher);
+            }
+            long value = fetcher.applyAsLong(world);
+            this.longs.put(fetcher, value);
+            return value;
+        }
+
+        private void refresh(World world) {
+            long time = world.getGameTime();
+            if(time != this.tick) {
+                this.values.clear();
+                this.longs.clear();
+                this.tick = time;
+            }
+        }
+    }
+}
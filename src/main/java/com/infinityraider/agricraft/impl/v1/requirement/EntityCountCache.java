@@ -0,0 +1,148 @@
+package com.infinityraider.agricraft.impl.v1.requirement;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.entity.Entity;
+import net.minecraft.util.ClassInheritanceMultiMap;
+import net.minecraft.util.math.AxisAlignedBB;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.util.math.SectionPos;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Counts entities within bounding boxes, without creating lists of the entities.
+ *
+ * The entities matching a predicate are collected once per chunk section and per world tick, and are shared by all
+ * queries with that predicate during the same tick, so crops in the same field only collect the entities around them
+ * once. The collected entities are released at the end of every world tick, so entities which are removed from the world
+ * are not retained by the cache. The counts match the sizes of the lists returned by World.getEntitiesInAABBexcluding, except that the parts of
+ * multipart entities (i.e. the ender dragon) are not counted separately.
+ */
+public final class EntityCountCache {
+    private static final EntityCountCache INSTANCE = new EntityCountCache();
+
+    public static EntityCountCache getInstance() {
+        return INSTANCE;
+    }
+
+    private static final Entity[] EMPTY = new Entity[0];
+
+    private final Map<World, WorldCache> worlds;
+
+    private EntityCountCache() {
+        this.worlds = Maps.newConcurrentMap();
+    }
+
+    /**
+     * Counts the entities matching a predicate which intersect a bounding box
+     * @param world the world
+     * @param box the bounding box
+     * @param predicate the predicate, should be the same instance for every query of the same condition
+     * @return the number of entities
+     */
+    public int count(World world, AxisAlignedBB box, Predicate<Entity> predicate) {
+        WorldCache cache = this.worlds.computeIfAbsent(world, WorldCache::new);
+        int count = cache.count(box, predicate);
+        if(world.isRemote()) {
+            // Client worlds do not fire world tick events, do not retain their entities
+            cache.release();
+        }
+        return count;
+    }
+
+    /**
+     * Releases the entities collected during the current tick of a world, must be called at the end of every world tick
+     * @param world the world
+     */
+    public void onWorldTickEnd(World world) {
+        WorldCache cache = this.worlds.get(world);
+        if(cache != null) {
+            cache.release();
+        }
+    }
+
+    /**
+     * Removes all cached entities for a world, must be called when the world is unloaded
+     * @param world the world
+     */
+    public void clear(World world) {
+        this.worlds.remove(world);
+    }
+
+    private static final class WorldCache {
+        private final World world;
+        private final Map<Predicate<Entity>, Long2ObjectMap<Entity[]>> sections;
+        private long tick;
+
+        private WorldCache(World world) {
+            this.world = world;
+            this.sections = Maps.newIdentityHashMap();
+            this.tick = world.getGameTime();
+        }
+
+        private synchronized void release() {
+            this.sections.clear();
+        }
+
+        private synchronized int count(AxisAlignedBB box, Predicate<Entity> predicate) {
+            long time = this.world.getGameTime();
+            if(time != this.tick) {
+                this.sections.clear();
+                this.tick = time;
+            }
+            Long2ObjectMap<Entity[]> sections = this.sections.computeIfAbsent(predicate, key -> new Long2ObjectOpenHashMap<>());
+            // Same bounds as vanilla, entities are stored in the section of their position but may stick out of it
+            int minX = MathHelper.floor((box.minX - 2.0D) / 16.0D);
+            int maxX = MathHelper.floor((box.maxX + 2.0D) / 16.0D);
+            int minY = MathHelper.clamp(MathHelper.floor((box.minY - 2.0D) / 16.0D), 0, 15);
+            int maxY = MathHelper.clamp(MathHelper.floor((box.maxY + 2.0D) / 16.0D), 0, 15);
+            int minZ = MathHelper.floor((box.minZ - 2.0D) / 16.0D);
+            int maxZ = MathHelper.floor((box.maxZ + 2.0D) / 16.0D);
+            int count = 0;
+            for(int x = minX; x <= maxX; x++) {
+                for(int z = minZ; z <= maxZ; z++) {
+                    Chunk chunk = null;
+                    boolean loaded = true;
+                    for(int y = minY; y <= maxY; y++) {
+                        long key = SectionPos.asLong(x, y, z);
+                        Entity[] entities = sections.get(key);
+                        if(entities == null) {
+                            if(loaded && chunk == null) {
+                                chunk = this.world.getChunkProvider().getChunk(x, z, false);
+                                loaded = chunk != null;
+                            }
+                            entities = loaded ? collect(chunk.getEntityLists()[y], predicate) : EMPTY;
+                            sections.put(key, entities);
+                        }
+                        for(Entity entity : entities) {
+                            if(entity.getBoundingBox().intersects(box)) {
+                                count++;
+                            }
+                        }
+                    }
+                }
+            }
+            return count;
+        }
+
+        private static Entity[] collect(ClassInheritanceMultiMap<Entity> section, Predicate<Entity> predicate) {
+            if(section.isEmpty()) {
+                return EMPTY;
+            }
+            List<Entity> entities = Lists.newArrayList();
+            for(Entity entity : section) {
+                if(predicate.test(entity)) {
+                    entities.add(entity);
+                }
+            }
+            return entities.isEmpty() ? EMPTY : entities.toArray(EMPTY);
+        }
+    }
+}
@@ -52,17 +52,17 @@ public class Factory extends FactoryAbstract {
 
     @Override
     public IGrowCondition biome(int strength, Predicate<Biome> predicate) {
-        return new GrowConditionSingle<>(strength, RequirementType.BIOME, OFFSET_NONE, BIOME_FUNCTION, predicate);
+        return new GrowConditionSingle<>(strength, RequirementType.BIOME, OFFSET_NONE, BIOME_FUNCTION, predicate, IGrowCondition.CacheType.FULL);
     }
 
     @Override
     public IGrowCondition dimensionFromKey(int strength, Predicate<RegistryKey<World>> predicate) {
-        return new GrowConditionAmbient<>(strength, RequirementType.DIMENSION, DIMENSION_KEY_FUNCTION, predicate);
+        return new GrowConditionAmbient<>(strength, RequirementType.DIMENSION, DIMENSION_KEY_FUNCTION, predicate, IGrowCondition.CacheType.FULL);
     }
 
     @Override
     public IGrowCondition dimensionFromType(int strength, Predicate<DimensionType> predicate) {
-        return new GrowConditionAmbient<>(strength, RequirementType.DIMENSION, DIMENSION_TYPE_FUNCTION, predicate);
+        return new GrowConditionAmbient<>(strength, RequirementType.DIMENSION, DIMENSION_TYPE_FUNCTION, predicate, IGrowCondition.CacheType.FULL);
     }
 
     @Override
@@ -22,6 +22,9 @@ import net.minecraft.world.gen.feature.structure.Structure;
 import net.minecraftforge.common.extensions.IForgeStructure;
 import net.minecraftforge.fml.common.ObfuscationReflectionHelper;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.function.Predicate;
@@ -34,13 +37,17 @@ public abstract class FactoryAbstract implements IDefaultGrowConditionFactory {
     public static final BlockPos OFFSET_SOIL = new BlockPos(0, -1, 0);
     public static final BlockPos OFFSET_BELOW = new BlockPos(0, -2, 0);
 
+    private static final MethodHandle CLIMATE_GETTER = createClimateGetter();
+
     protected FactoryAbstract() {}
 
     protected abstract IGrowCondition statesInRange(int strength, RequirementType type, int min, int max, BlockPos minOffset, BlockPos maxOffset, Predicate<BlockState> predicate);
 
     @Override
     public IGrowCondition soil(int strength, IAgriSoil soil) {
-        return this.statesInRange(strength, RequirementType.SOIL, 1, 1, OFFSET_SOIL, OFFSET_SOIL, soil::isVariant);
+        return this.statesInRange(strength, RequirementType.SOIL, 1, 1, OFFSET_SOIL, OFFSET_SOIL,
+                (state) -> AgriSoilRegistry.getInstance().isVariant(soil, state)
+        );
     }
 
     @Override
@@ -51,7 +58,7 @@ public abstract class FactoryAbstract implements IDefaultGrowConditionFactory {
     @Override
     public IGrowCondition soil(int strength, Collection<IAgriSoil> soils) {
         return this.statesInRange(strength, RequirementType.SOIL, 1, 1, OFFSET_SOIL, OFFSET_SOIL,
-                (state) -> soils.stream().anyMatch(soil -> soil.isVariant(state))
+                (state) -> soils.stream().anyMatch(soil -> AgriSoilRegistry.getInstance().isVariant(soil, state))
         );
     }
 
@@ -206,7 +213,21 @@ public abstract class FactoryAbstract implements IDefaultGrowConditionFactory {
     }
 
     private final Biome.Climate getClimate(Biome biome) {
-        return ObfuscationReflectionHelper.getPrivateValue(Biome.class, biome, "field_242423_j");
+        try {
+            return (Biome.Climate) CLIMATE_GETTER.invokeExact(biome);
+        } catch (Throwable e) {
+            throw new IllegalStateException("Failed to read the climate of biome " + biome.getRegistryName(), e);
+        }
+    }
+
+    private static MethodHandle createClimateGetter() {
+        // Resolve the private field once, instead of reflecting on every evaluation
+        try {
+            Field field = ObfuscationReflectionHelper.findField(Biome.class, "field_242423_j");
+            return MethodHandles.lookup().unreflectGetter(field);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Failed to access the climate field of biomes", e);
+        }
     }
 
     @Override
@@ -1,5 +1,6 @@
 package com.infinityraider.agricraft.impl.v1.requirement;
 
+import com.infinityraider.agricraft.api.v1.requirement.IGrowCondition;
 import com.infinityraider.agricraft.api.v1.requirement.RequirementType;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
@@ -11,15 +12,26 @@ import java.util.function.Predicate;
 public class GrowConditionAmbient<T> extends GrowConditionAbstract {
     private final Function<World, T> fetcher;
     private final Predicate<T> predicate;
+    private final IGrowCondition.CacheType cacheType;
 
     public GrowConditionAmbient(int strength, RequirementType type, Function<World, T> fetcher, Predicate<T> predicate) {
+        this(strength, type, fetcher, predicate, CacheType.NONE);
+    }
+
+    public GrowConditionAmbient(int strength, RequirementType type, Function<World, T> fetcher, Predicate<T> predicate, IGrowCondition.CacheType cacheType) {
         super(strength, type);
         this.fetcher = fetcher;
         this.predicate = predicate;
+        this.cacheType = cacheType;
+    }
+
+    @Override
+    public IGrowCondition.CacheType getCacheType() {
+        return this.cacheType;
     }
 
     @Override
     public boolean isMet(@Nonnull World world, @Nonnull BlockPos pos) {
-        return this.predicate.test(this.fetcher.apply(world));
+        return this.predicate.test(AmbientCache.getInstance().get(world, this.fetcher));
     }
 }
@@ -19,6 +19,6 @@ public class GrowConditionAmbientLong extends GrowConditionAbstract {
 
     @Override
     public boolean isMet(@Nonnull World world, @Nonnull BlockPos pos) {
-        return this.predicate.test(this.fetcher.applyAsLong(world));
+        return this.predicate.test(AmbientCache.getInstance().getLong(world, this.fetcher));
     }
 }
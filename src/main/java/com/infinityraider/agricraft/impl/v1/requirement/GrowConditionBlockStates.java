@@ -1,6 +1,8 @@
 package com.infinityraider.agricraft.impl.v1.requirement;
 
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
+import com.infinityraider.agricraft.api.v1.requirement.IGrowCondition;
 import com.infinityraider.agricraft.api.v1.requirement.RequirementType;
 import net.minecraft.block.BlockState;
 import net.minecraft.util.math.BlockPos;
@@ -14,22 +16,81 @@ public class GrowConditionBlockStates extends GrowConditionAbstract {
     private final int max;
     private final Predicate<BlockState> predicate;
 
+    // Indexed offsets, allowing crops to count matching states incrementally
+    private final BlockPos[] offsetArray;
+    private final ImmutableMap<BlockPos, Integer> offsetIndices;
+
     public GrowConditionBlockStates(int strength, RequirementType type, int min, int max, BlockPos minOffset, BlockPos maxOffset, Predicate<BlockState> predicate) {
         super(strength, type, getOffsets(minOffset, maxOffset));
         this.min = min;
         this.max = max;
         this.predicate = predicate;
+        this.offsetArray = this.offsetsToCheck().toArray(new BlockPos[0]);
+        ImmutableMap.Builder<BlockPos, Integer> indices = new ImmutableMap.Builder<>();
+        for(int i = 0; i < this.offsetArray.length; i++) {
+            indices.put(this.offsetArray[i], i);
+        }
+        this.offsetIndices = indices.build();
+    }
+
+    @Override
+    public IGrowCondition.CacheType getCacheType() {
+        return CacheType.BLOCK_UPDATE;
     }
 
     @Override
     public boolean isMet(@Nonnull World world, @Nonnull BlockPos pos) {
-        long count = this.offsetsToCheck().stream()
-                .map(offset -> world.getBlockState(pos.add(offset)))
-                .filter(this.predicate)
-                .count();
+        BlockPos.Mutable checkPos = new BlockPos.Mutable();
+        int count = 0;
+        for(BlockPos offset : this.offsetArray) {
+            checkPos.setPos(pos.getX() + offset.getX(), pos.getY() + offset.getY(), pos.getZ() + offset.getZ());
+            if(this.matches(world.getBlockState(checkPos))) {
+                count++;
+            }
+        }
+        return this.isMet(count);
+    }
+
+    /**
+     * @param count the amount of matching block states
+     * @return true if the amount of matching block states satisfies this condition
+     */
+    public boolean isMet(int count) {
         return count >= this.min && count <= this.max;
     }
 
+    /**
+     * @param state a block state
+     * @return true if the block state counts towards this condition
+     */
+    public boolean matches(BlockState state) {
+        return this.predicate.test(state);
+    }
+
+    /**
+     * @return the number of offsets checked by this condition
+     */
+    public int getOffsetCount() {
+        return this.offsetArray.length;
+    }
+
+    /**
+     * @param index the index of the offset, between 0 and getOffsetCount()
+     * @return the offset at the index
+     */
+    public BlockPos getOffset(int index) {
+        return this.offsetArray[index];
+    }
+
+    /**
+     * @param offset an offset
+     * @return the index of the offset, or -1 if this condition does not check the offset
+     */
+    public int indexOf(BlockPos offset) {
+        Integer index = this.offsetIndices.get(offset);
+        return index == null ? -1 : index;
+    }
+
     private static ImmutableSet<BlockPos> getOffsets(BlockPos min, BlockPos max) {
         ImmutableSet.Builder<BlockPos> builder = new ImmutableSet.Builder<>();
         for(int x = min.getX(); x <= max.getX(); x++) {
@@ -35,7 +35,7 @@ public class GrowConditionEntities extends GrowConditionAbstract {
 
     @Override
     public boolean isMet(@Nonnull World world, @Nonnull BlockPos pos) {
-        int amount = world.getEntitiesInAABBexcluding(null, this.getBoundingBox(pos), this.predicate).size();
+        int amount = EntityCountCache.getInstance().count(world, this.getBoundingBox(pos), this.predicate);
         return amount >= this.min && amount <= this.max;
     }
 
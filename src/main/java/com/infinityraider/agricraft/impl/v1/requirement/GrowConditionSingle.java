@@ -1,5 +1,6 @@
 package com.infinityraider.agricraft.impl.v1.requirement;
 
+import com.infinityraider.agricraft.api.v1.requirement.IGrowCondition;
 import com.infinityraider.agricraft.api.v1.requirement.RequirementType;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
@@ -12,12 +13,23 @@ public class GrowConditionSingle<T> extends GrowConditionAbstract {
     private final BlockPos offset;
     private final BiFunction<World, BlockPos, T> fetcher;
     private final Predicate<T> predicate;
+    private final IGrowCondition.CacheType cacheType;
 
     public GrowConditionSingle(int strength, RequirementType type, BlockPos offset, BiFunction<World, BlockPos, T> fetcher, Predicate<T> predicate) {
+        this(strength, type, offset, fetcher, predicate, CacheType.NONE);
+    }
+
+    public GrowConditionSingle(int strength, RequirementType type, BlockPos offset, BiFunction<World, BlockPos, T> fetcher, Predicate<T> predicate, IGrowCondition.CacheType cacheType) {
         super(strength, type, offset);
         this.offset = offset;
         this.fetcher = fetcher;
         this.predicate = predicate;
+        this.cacheType = cacheType;
+    }
+
+    @Override
+    public IGrowCondition.CacheType getCacheType() {
+        return this.cacheType;
     }
 
     @Override
@@ -1,28 +1,32 @@
 package com.infinityraider.agricraft.impl.v1.requirement;
 
+import com.infinityraider.agricraft.api.v1.requirement.IGrowCondition;
 import com.infinityraider.agricraft.api.v1.requirement.RequirementType;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
-import net.minecraft.world.gen.feature.structure.StructureStart;
 import net.minecraftforge.common.extensions.IForgeStructure;
 
 import javax.annotation.Nonnull;
 import java.util.function.Predicate;
 
 public class GrowConditionStructure extends GrowConditionAbstract {
-    private final Predicate<IForgeStructure> predicate;
+    private final int predicate;
     private final BlockPos offset;
 
     public GrowConditionStructure(int strength, Predicate<IForgeStructure> predicate, BlockPos offset) {
         super(strength, RequirementType.STRUCTURE, offset);
-        this.predicate = predicate;
+        this.predicate = StructureCache.getInstance().register(predicate);
         this.offset = offset;
     }
 
+    @Override
+    public IGrowCondition.CacheType getCacheType() {
+        // Structures do not change after generation
+        return CacheType.FULL;
+    }
+
     @Override
     public boolean isMet(@Nonnull World world, @Nonnull BlockPos pos) {
-        return world.getChunk(pos.add(this.offset)).getStructureStarts().values().stream()
-                .map(StructureStart::getStructure)
-                .anyMatch(this.predicate);
+        return StructureCache.getInstance().hasStructure(world, pos.add(this.offset), this.predicate);
     }
 }
@@ -0,0 +1,180 @@
+package com.infinityraider.agricraft.impl.v1.requirement;
+
+import com.google.common.collect.Maps;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.IWorld;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.IChunk;
+import net.minecraft.world.gen.feature.structure.StructureStart;
+import net.minecraftforge.common.extensions.IForgeStructure;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Predicate;
+
+/**
+ * Caches per chunk whether its structure starts match the structure predicates of the grow conditions.
+ *
+ * Structure predicates are registered once and receive an index. Structure starts do not change after a chunk has been
+ * generated, so the answers for all registered predicates are computed when a chunk is loaded, and kept in a bit set
+ * until the chunk is unloaded. A check is therefore a single probe of the chunk map. Chunks which were loaded before
+ * a predicate was registered are evaluated on the first check instead, which is counted as a miss.
+ *
+ * Chunks are loaded, unloaded and checked on the server thread, the cached chunks are not synchronized.
+ * Checks in client worlds are not cached.
+ */
+public final class StructureCache {
+    private static final StructureCache INSTANCE = new StructureCache();
+
+    public static StructureCache getInstance() {
+        return INSTANCE;
+    }
+
+    private final List<Predicate<IForgeStructure>> predicates;
+    private final Map<IWorld, Long2ObjectMap<Structures>> worlds;
+
+    private long hits;
+    private long misses;
+
+    private StructureCache() {
+        this.predicates = new CopyOnWriteArrayList<>();
+        this.worlds = Maps.newConcurrentMap();
+    }
+
+    /**
+     * Registers a structure predicate, which is evaluated for every chunk from then on
+     * @param predicate the predicate
+     * @return the index of the predicate, to be passed when checking
+     */
+    public synchronized int register(Predicate<IForgeStructure> predicate) {
+        int index = this.predicates.indexOf(predicate);
+        if(index < 0) {
+            index = this.predicates.size();
+            this.predicates.add(predicate);
+        }
+        return index;
+    }
+
+    /**
+     * Checks if a position is in a chunk holding the start of a structure matching a predicate
+     * @param world the world
+     * @param pos the position
+     * @param index the index of the predicate, as returned on registration
+     * @return true if a structure start in the chunk matches the predicate
+     */
+    public boolean hasStructure(World world, BlockPos pos, int index) {
+        if(world.isRemote()) {
+            return matches(world.getChunk(pos), this.predicates.get(index));
+        }
+        long key = ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4);
+        Long2ObjectMap<Structures> chunks = this.worlds.get(world);
+        Structures structures = chunks == null ? null : chunks.get(key);
+        if(structures != null && structures.isKnown(index)) {
+            this.hits++;
+            return structures.matches(index);
+        }
+        this.misses++;
+        IChunk chunk = world.getChunk(pos);
+        boolean result = matches(chunk, this.predicates.get(index));
+        if(chunk instanceof Chunk) {
+            if(structures == null) {
+                structures = new Structures();
+                this.getChunks(world).put(key, structures);
+            }
+            structures.set(index, result);
+        }
+        return result;
+    }
+
+    /**
+     * Evaluates all registered predicates for a chunk, must be called when the chunk is loaded
+     * @param world the world
+     * @param chunk the chunk
+     */
+    public void onChunkLoaded(IWorld world, IChunk chunk) {
+        // Proto chunks are still generating and may be loaded off thread
+        if(!(world instanceof World) || world.isRemote() || !(chunk instanceof Chunk)) {
+            return;
+        }
+        Structures structures = new Structures();
+        for(int index = 0; index < this.predicates.size(); index++) {
+            structures.set(index, matches(chunk, this.predicates.get(index)));
+        }
+        this.getChunks(world).put(chunk.getPos().asLong(), structures);
+    }
+
+    /**
+     * Drops the cached results for a chunk, must be called when the chunk is unloaded
+     * @param world the world
+     * @param pos the position of the chunk
+     */
+    public void onChunkUnloaded(IWorld world, ChunkPos pos) {
+        if(world.isRemote()) {
+            return;
+        }
+        Long2ObjectMap<Structures> chunks = this.worlds.get(world);
+        if(chunks != null) {
+            chunks.remove(pos.asLong());
+        }
+    }
+
+    /**
+     * Drops the cached results for a world, must be called when the world is unloaded
+     * @param world the world
+     */
+    public void onWorldUnloaded(IWorld world) {
+        this.worlds.remove(world);
+    }
+
+    /**
+     * @return the number of checks which were answered from the cache
+     */
+    public long getHits() {
+        return this.hits;
+    }
+
+    /**
+     * @return the number of checks which had to look up the structure starts of a chunk
+     */
+    public long getMisses() {
+        return this.misses;
+    }
+
+    private Long2ObjectMap<Structures> getChunks(IWorld world) {
+        return this.worlds.computeIfAbsent(world, key -> new Long2ObjectOpenHashMap<>());
+    }
+
+    private static boolean matches(IChunk chunk, Predicate<IForgeStructure> predicate) {
+        for(StructureStart<?> start : chunk.getStructureStarts().values()) {
+            if(predicate.test(start.getStructure())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // The answers for a chunk, by the index of the predicates
+    private static final class Structures {
+        private final BitSet known = new BitSet();
+        private final BitSet matches = new BitSet();
+
+        private boolean isKnown(int index) {
+            return this.known.get(index);
+        }
+
+        private boolean matches(int index) {
+            return this.matches.get(index);
+        }
+
+        private void set(int index, boolean matches) {
+            this.known.set(index);
+            this.matches.set(index, matches);
+        }
+    }
+}
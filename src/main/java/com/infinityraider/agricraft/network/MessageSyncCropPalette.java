@@ -0,0 +1,47 @@
+package com.infinityraider.agricraft.network;
+
+import com.infinityraider.agricraft.content.core.CropStatePalette;
+import com.infinityraider.infinitylib.network.MessageBase;
+import net.minecraft.nbt.CompoundNBT;
+import net.minecraftforge.fml.LogicalSide;
+import net.minecraftforge.fml.network.NetworkDirection;
+import net.minecraftforge.fml.network.NetworkEvent;
+
+public class MessageSyncCropPalette extends MessageBase {
+    private boolean full;
+    private CompoundNBT palette;
+    private boolean growth;
+    private int id;
+    private String entry;
+
+    @SuppressWarnings("unused")
+    public MessageSyncCropPalette() {}
+
+    public MessageSyncCropPalette(CompoundNBT palette) {
+        this.full = true;
+        this.palette = palette;
+        this.entry = "";
+    }
+
+    public MessageSyncCropPalette(boolean growth, int id, String entry) {
+        this.full = false;
+        this.palette = new CompoundNBT();
+        this.growth = growth;
+        this.id = id;
+        this.entry = entry;
+    }
+
+    @Override
+    public NetworkDirection getMessageDirection() {
+        return NetworkDirection.PLAY_TO_CLIENT;
+    }
+
+    @Override
+    protected void processMessage(NetworkEvent.Context ctx) {
+        if(this.full) {
+            CropStatePalette.getInstance(LogicalSide.CLIENT).readFromTag(this.palette);
+        } else {
+            CropStatePalette.getInstance(LogicalSide.CLIENT).putEntry(this.growth, this.id, this.entry);
+        }
+    }
+}
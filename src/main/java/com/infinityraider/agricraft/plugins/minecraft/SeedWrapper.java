@@ -44,12 +44,12 @@ public class SeedWrapper implements IAgriAdapter<AgriSeed> {
                 .filter(plant -> this.isSeedItem(plant, stack))
                 .findFirst()
                 .map(plant -> {
-                    IAgriGenome genome = AgriApi.getAgriGenomeBuilder(plant).build();
+                    IAgriGenome.Builder builder = AgriApi.getAgriGenomeBuilder(plant);
                     if(stack.hasTag()) {
                         assert stack.getTag() != null;
-                        genome.readFromNBT(stack.getTag());
+                        builder.readFromNBT(stack.getTag());
                     }
-                    return genome;
+                    return builder.build();
                 })
                 .map(AgriSeed::new);
     }
@@ -3,6 +3,7 @@ package com.infinityraider.agricraft.plugins.theoneprobe;
 import com.infinityraider.agricraft.AgriCraft;
 import com.infinityraider.agricraft.api.v1.AgriApi;
 import com.infinityraider.agricraft.content.core.BlockCropSticks;
+import com.infinityraider.agricraft.content.core.TileEntityCropSticks;
 import com.infinityraider.agricraft.reference.AgriToolTips;
 import com.infinityraider.agricraft.reference.Names;
 import mcjty.theoneprobe.api.*;
@@ -56,6 +57,9 @@ public class TheOneProbeCompat implements Function<ITheOneProbe, Void> {
                             info.text(AgriToolTips.UNKNOWN);
                             return false;
                         });
+                        if(crop instanceof TileEntityCropSticks) {
+                            ((TileEntityCropSticks) crop).traceFertility().ifPresent(trace -> trace.addDisplayInfo(info::text));
+                        }
                     }
                 });
             }
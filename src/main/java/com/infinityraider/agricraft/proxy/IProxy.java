@@ -2,6 +2,10 @@ package com.infinityraider.agricraft.proxy;
 
 import com.infinityraider.agricraft.capability.*;
 import com.infinityraider.agricraft.config.Config;
+import com.infinityraider.agricraft.handler.CommandHandler;
+import com.infinityraider.agricraft.handler.CropPaletteHandler;
+import com.infinityraider.agricraft.handler.CropTickHandler;
+import com.infinityraider.agricraft.handler.GrowthRequirementHandler;
 import com.infinityraider.agricraft.handler.DataHandler;
 import com.infinityraider.agricraft.handler.IrrigationNetworkHandler;
 import com.infinityraider.agricraft.handler.PlayerConnectToServerHandler;
@@ -57,6 +61,10 @@ public interface IProxy extends IProxyBase<Config> {
     @Override
     default void registerEventHandlers() {
         this.registerEventHandler(IrrigationNetworkHandler.getInstance());
+        this.registerEventHandler(CropTickHandler.getInstance());
+        this.registerEventHandler(CropPaletteHandler.getInstance());
+        this.registerEventHandler(GrowthRequirementHandler.getInstance());
+        this.registerEventHandler(CommandHandler.getInstance());
     }
 
     @Override
@@ -9,6 +9,7 @@ public interface AgriNBT {
     String CAPACITY = "agri_capacity";
     String CHUNK = "agri_chunk";
     String CONNECTIONS = "agri_connections";
+    String CROSS_CROP = "agri_cross_crop";
     String DIRECTION = "agri_dir";
     String DOMINANT = "agri_dominant";
     String ENTRIES = "agri_entries";
@@ -19,8 +20,11 @@ public interface AgriNBT {
     String LEVEL = "agri_level";
     String LAYERS = "agri_layers";
     String NETWORK = "agri_network";
+    String PALETTE = "agri_palette";
     String PLANT = "agri_plant";
     String RECESSIVE = "agri_recessive";
+    String STATE = "agri_state";
+    String VERSION = "agri_version";
     String WEED = "agri_weed";
     String WEED_GROWTH = "agri_weed_growth";
 
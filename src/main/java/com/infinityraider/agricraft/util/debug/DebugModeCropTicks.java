@@ -0,0 +1,59 @@
+package com.infinityraider.agricraft.util.debug;
+
+import com.infinityraider.agricraft.handler.CropTickHandler;
+import com.infinityraider.agricraft.impl.v1.requirement.StructureCache;
+import com.infinityraider.infinitylib.utility.MessageUtil;
+import com.infinityraider.infinitylib.utility.debug.DebugMode;
+import net.minecraft.entity.LivingEntity;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.item.ItemStack;
+import net.minecraft.item.ItemUseContext;
+import net.minecraft.util.Hand;
+import net.minecraft.world.World;
+
+public class DebugModeCropTicks extends DebugMode {
+
+    @Override
+    public String debugName() {
+        return "crop ticks";
+    }
+
+    @Override
+    public void debugActionBlockClicked(ItemStack stack, ItemUseContext context) {
+        this.printStats(context.getWorld(), context.getPlayer());
+    }
+
+    @Override
+    public void debugActionClicked(ItemStack stack, World world, PlayerEntity player, Hand hand) {
+        this.printStats(world, player);
+    }
+
+    @Override
+    public void debugActionEntityClicked(ItemStack stack, PlayerEntity player, LivingEntity target, Hand hand) {
+        // NOP
+    }
+
+    protected void printStats(World world, PlayerEntity player) {
+        if(world.isRemote()) {
+            return;
+        }
+        MessageUtil.messagePlayer(player, "Crop Ticks in {0}:", world.getDimensionKey().getLocation());
+        MessageUtil.messagePlayer(player, "========================================");
+        MessageUtil.messagePlayer(player, " - Structure cache hits: {0}", StructureCache.getInstance().getHits());
+        MessageUtil.messagePlayer(player, " - Structure cache misses: {0}", StructureCache.getInstance().getMisses());
+        CropTickHandler.getInstance().getWorldData(world).map(data -> {
+            MessageUtil.messagePlayer(player, " - Crops: {0}", data.getCropCount());
+            MessageUtil.messagePlayer(player, " - Chunks: {0}", data.getChunkCount());
+            MessageUtil.messagePlayer(player, " - Total Ticks: {0}", data.getTotalTicks());
+            MessageUtil.messagePlayer(player, " - Ticks/s: {0}", data.getTicksPerSecond());
+            MessageUtil.messagePlayer(player, " - Avg ns/chunk: {0}", data.getAverageChunkNanos());
+            MessageUtil.messagePlayer(player, " - Max ns/chunk: {0}", data.getMaxChunkNanos());
+            MessageUtil.messagePlayer(player, " - Cached cross crops: {0}", data.getCrossCropCount());
+            MessageUtil.messagePlayer(player, " - Skipped mutation ticks: {0}", data.getSkippedMutationTicks());
+            return true;
+        }).orElseGet(() -> {
+            MessageUtil.messagePlayer(player, " - No crops registered");
+            return false;
+        });
+    }
+}
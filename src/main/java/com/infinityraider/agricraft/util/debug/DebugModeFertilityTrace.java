@@ -0,0 +1,45 @@
+package com.infinityraider.agricraft.util.debug;
+
+import com.infinityraider.agricraft.content.core.TileEntityCropSticks;
+import com.infinityraider.infinitylib.utility.MessageUtil;
+import com.infinityraider.infinitylib.utility.debug.DebugMode;
+import net.minecraft.entity.LivingEntity;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.item.ItemStack;
+import net.minecraft.item.ItemUseContext;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.Hand;
+import net.minecraft.util.Util;
+import net.minecraft.world.World;
+
+public class DebugModeFertilityTrace extends DebugMode {
+    @Override
+    public String debugName() {
+        return "trace fertility";
+    }
+
+    @Override
+    public void debugActionBlockClicked(ItemStack stack, ItemUseContext context) {
+        PlayerEntity player = context.getPlayer();
+        if(context.getWorld().isRemote() || player == null) {
+            return;
+        }
+        TileEntity tile = context.getWorld().getTileEntity(context.getPos());
+        if(tile instanceof TileEntityCropSticks) {
+            ((TileEntityCropSticks) tile).traceFertility().ifPresent(trace ->
+                    trace.addDisplayInfo(line -> player.sendMessage(line, Util.DUMMY_UUID)));
+        } else {
+            MessageUtil.messagePlayer(player, "Not a crop");
+        }
+    }
+
+    @Override
+    public void debugActionClicked(ItemStack stack, World world, PlayerEntity player, Hand hand) {
+        // NOP
+    }
+
+    @Override
+    public void debugActionEntityClicked(ItemStack stack, PlayerEntity player, LivingEntity target, Hand hand) {
+        // NOP
+    }
+}
@@ -0,0 +1,52 @@
+package com.infinityraider.agricraft.content.core;
+
+import com.infinityraider.agricraft.testing.AllocationCounter;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class PackedCropStateTest {
+    @Test
+    public void testFieldsAreIndependent() {
+        long state = PackedCropState.EMPTY;
+        state = PackedCropState.setGrowth(state, 7);
+        state = PackedCropState.setWeed(state, PackedCropState.MAX_ID);
+        state = PackedCropState.setWeedGrowth(state, 3);
+        state = PackedCropState.setCrossCrop(state, true);
+        assertEquals(7, PackedCropState.getGrowth(state));
+        assertEquals(PackedCropState.MAX_ID, PackedCropState.getWeed(state));
+        assertEquals(3, PackedCropState.getWeedGrowth(state));
+        assertTrue(PackedCropState.isCrossCrop(state));
+        state = PackedCropState.setWeed(state, 0);
+        state = PackedCropState.setCrossCrop(state, false);
+        assertEquals(7, PackedCropState.getGrowth(state));
+        assertEquals(0, PackedCropState.getWeed(state));
+        assertEquals(3, PackedCropState.getWeedGrowth(state));
+        assertFalse(PackedCropState.isCrossCrop(state));
+    }
+
+    @Test
+    public void testIdsAreMasked() {
+        long state = PackedCropState.setGrowth(PackedCropState.EMPTY, PackedCropState.MAX_ID + 2);
+        assertEquals(1, PackedCropState.getGrowth(state));
+        assertEquals(0, PackedCropState.getWeed(state));
+    }
+
+    @Test
+    public void testUpdatesDoNotAllocate() {
+        int runs = 100000;
+        long[] result = new long[1];
+        Runnable ticks = () -> {
+            long state = PackedCropState.EMPTY;
+            for(int i = 0; i < runs; i++) {
+                // Same updates as a growth tick: advance the plant and the weed
+                state = PackedCropState.setGrowth(state, (PackedCropState.getGrowth(state) + 1) & 7);
+                state = PackedCropState.setWeedGrowth(state, (PackedCropState.getWeedGrowth(state) + 1) & 3);
+            }
+            result[0] = state;
+        };
+        ticks.run();
+        long bytes = AllocationCounter.measure(ticks);
+        assertTrue("Packed state updates allocated " + bytes + " bytes", bytes < runs);
+    }
+}
@@ -0,0 +1,105 @@
+package com.infinityraider.agricraft.impl.v1.crop;
+
+import com.google.common.collect.ImmutableSet;
+import com.infinityraider.agricraft.api.v1.requirement.IGrowCondition;
+import com.infinityraider.agricraft.testing.AllocationCounter;
+import net.minecraft.util.math.BlockPos;
+import org.junit.Test;
+
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+public class GrowConditionEvaluatorTest {
+    private static final int MAX_STAT = 10;
+
+    private static final BlockPos POS = new BlockPos(8, 64, 8);
+
+    @Test
+    public void testIsMet() {
+        GrowConditionEvaluator met = new GrowConditionEvaluator(ImmutableSet.of(
+                new TestCondition(true, 1, 11),
+                new TestCondition(true, 5, 11)), MAX_STAT);
+        assertTrue(met.isMet(null, POS, 0));
+        GrowConditionEvaluator notMet = new GrowConditionEvaluator(ImmutableSet.of(
+                new TestCondition(true, 1, 11),
+                new TestCondition(false, 5, 11)), MAX_STAT);
+        assertFalse(notMet.isMet(null, POS, 0));
+    }
+
+    @Test
+    public void testStrengthIgnoresConditions() {
+        GrowConditionEvaluator evaluator = new GrowConditionEvaluator(ImmutableSet.of(
+                new TestCondition(true, 1, 11),
+                new TestCondition(false, 5, 4)), MAX_STAT);
+        assertFalse(evaluator.isMet(null, POS, 3));
+        assertTrue(evaluator.isMet(null, POS, 4));
+        assertTrue(evaluator.isMet(null, POS, MAX_STAT));
+    }
+
+    @Test
+    public void testIsMetDoesNotAllocate() {
+        GrowConditionEvaluator evaluator = new GrowConditionEvaluator(conditions(), MAX_STAT);
+        // Run up to the first reorder, which allocates, so that no reorder falls in the measured window
+        for(int i = 0; i < GrowConditionEvaluator.REORDER_INTERVAL; i++) {
+            evaluator.isMet(null, POS, 0);
+        }
+        int runs = GrowConditionEvaluator.REORDER_INTERVAL - 1;
+        long bytes = AllocationCounter.measure(() -> {
+            for(int i = 0; i < runs; i++) {
+                evaluator.isMet(null, POS, i % (MAX_STAT + 1));
+            }
+        });
+        // Any allocation takes at least 16 bytes, less than one byte per check means nothing was allocated
+        assertTrue("isMet allocated " + bytes + " bytes in " + runs + " checks", bytes < runs);
+    }
+
+    @Test
+    public void testTracingDoesNotAffectIsMet() {
+        GrowConditionEvaluator evaluator = new GrowConditionEvaluator(conditions(), MAX_STAT);
+        int runs = GrowConditionEvaluator.REORDER_INTERVAL - 1;
+        boolean[] results = new boolean[MAX_STAT + 1];
+        Runnable untraced = () -> {
+            for(int i = 0; i < runs; i++) {
+                results[i % results.length] = evaluator.isMet(null, POS, i % results.length);
+            }
+        };
+        Runnable traced = () -> {
+            for(int i = 0; i < runs; i++) {
+                results[i % results.length] = evaluator.trace(null, POS, i % results.length, true).isFertile();
+            }
+        };
+        // Run up to the first reorder, which allocates, so that no reorder falls in the measured windows
+        for(int i = 0; i < GrowConditionEvaluator.REORDER_INTERVAL; i++) {
+            evaluator.isMet(null, POS, 0);
+        }
+        long before = AllocationCounter.measure(untraced);
+        // Tracing does not count towards the reorder interval, this check triggers the next reorder
+        evaluator.isMet(null, POS, 0);
+        traced.run();
+        long tracedNanos = time(traced);
+        long after = AllocationCounter.measure(untraced);
+        long untracedNanos = time(untraced);
+        for(int strength = 0; strength <= MAX_STAT; strength++) {
+            assertEquals(evaluator.trace(null, POS, strength, true).isFertile(), evaluator.isMet(null, POS, strength));
+        }
+        System.out.println("Evaluating " + runs + " times: " + untracedNanos / 1000 + " us untraced, "
+                + tracedNanos / 1000 + " us traced");
+        assertTrue("isMet allocated " + before + " bytes before tracing", before < runs);
+        assertTrue("isMet allocated " + after + " bytes after tracing", after < runs);
+    }
+
+    private static long time(Runnable task) {
+        long start = System.nanoTime();
+        task.run();
+        return System.nanoTime() - start;
+    }
+
+    static Set<IGrowCondition> conditions() {
+        return ImmutableSet.of(
+                new TestCondition(true, 1, 11),
+                new TestCondition(true, 5, 11),
+                new TestCondition(true, 10, 6),
+                new TestCondition(false, 50, 8));
+    }
+}
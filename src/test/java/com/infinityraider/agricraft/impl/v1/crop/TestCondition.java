@@ -0,0 +1,57 @@
+package com.infinityraider.agricraft.impl.v1.crop;
+
+import com.google.common.collect.ImmutableSet;
+import com.infinityraider.agricraft.api.v1.requirement.IGrowCondition;
+import com.infinityraider.agricraft.api.v1.requirement.RequirementType;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.text.ITextComponent;
+import net.minecraft.world.World;
+
+import javax.annotation.Nonnull;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Grow condition with a fixed result, which does not read the world
+ */
+class TestCondition implements IGrowCondition {
+    private final boolean met;
+    private final int complexity;
+    private final int strengthToIgnore;
+    private final Set<BlockPos> offsets;
+
+    TestCondition(boolean met, int complexity, int strengthToIgnore) {
+        this.met = met;
+        this.complexity = complexity;
+        this.strengthToIgnore = strengthToIgnore;
+        this.offsets = ImmutableSet.of(BlockPos.ZERO.down());
+    }
+
+    @Override
+    public RequirementType getType() {
+        return RequirementType.SOIL;
+    }
+
+    @Override
+    public int getComplexity() {
+        return this.complexity;
+    }
+
+    @Override
+    public int strengthToIgnore() {
+        return this.strengthToIgnore;
+    }
+
+    @Override
+    public boolean isMet(@Nonnull World world, @Nonnull BlockPos pos) {
+        return this.met;
+    }
+
+    @Override
+    public Set<BlockPos> offsetsToCheck() {
+        return this.offsets;
+    }
+
+    @Override
+    public void addDescription(@Nonnull Consumer<ITextComponent> consumer) {}
+}
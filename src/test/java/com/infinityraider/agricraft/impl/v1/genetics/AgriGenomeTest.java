@@ -0,0 +1,137 @@
+package com.infinityraider.agricraft.impl.v1.genetics;
+
+import com.infinityraider.agricraft.api.v1.genetics.IAgriGenome;
+import com.infinityraider.agricraft.testing.AllocationCounter;
+import com.infinityraider.agricraft.testing.HeapUsage;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+public class AgriGenomeTest {
+    private static final int FARM_SIZE = 10000;
+    private static final int GENERATIONS = 1000;
+    private static final int READS = 100000;
+
+    // Keeps the results of the timed reads alive, so the reads are not optimised away
+    private static long sink;
+
+    @Test
+    public void testIdenticalGenomesAreShared() {
+        IAgriGenome first = AgriGenome.builder(TestGenetics.PLANT).put(TestGenetics.GENE_A.pair(3, 7)).build();
+        IAgriGenome second = AgriGenome.builder(TestGenetics.PLANT).put(TestGenetics.GENE_A.pair(7, 3)).build();
+        assertSame(first, second);
+        assertEquals(7, (int) first.getGenePair(TestGenetics.GENE_A).getDominant().trait());
+        assertEquals(3, (int) first.getGenePair(TestGenetics.GENE_A).getRecessive().trait());
+    }
+
+    @Test
+    public void testDifferentGenomesAreNotShared() {
+        IAgriGenome first = AgriGenome.builder(TestGenetics.PLANT).put(TestGenetics.GENE_A.pair(3, 7)).build();
+        IAgriGenome second = AgriGenome.builder(TestGenetics.PLANT).put(TestGenetics.GENE_A.pair(3, 8)).build();
+        IAgriGenome third = AgriGenome.builder(TestGenetics.plant("other_plant")).put(TestGenetics.GENE_A.pair(3, 7)).build();
+        assertNotSame(first, second);
+        assertNotSame(first, third);
+        assertNotEquals(first, second);
+        assertNotEquals(first, third);
+    }
+
+    @Test
+    public void testCloneFarmHeap() {
+        IAgriGenome[] clones = new IAgriGenome[FARM_SIZE];
+        IAgriGenome[] distinct = new IAgriGenome[FARM_SIZE];
+        build(0);
+
+        // Every crop of a clone farm builds its own genome, as happens when its seed or chunk is read
+        long start = HeapUsage.measure();
+        for(int i = 0; i < FARM_SIZE; i++) {
+            clones[i] = build(0);
+        }
+        long cloneFarm = HeapUsage.measure() - start;
+
+        // For comparison, a farm where every crop has different genes, which therefore can not be shared
+        start = HeapUsage.measure();
+        for(int i = 0; i < FARM_SIZE; i++) {
+            distinct[i] = build(i);
+        }
+        long distinctFarm = HeapUsage.measure() - start;
+
+        System.out.println("Genomes of " + FARM_SIZE + " crops: " + cloneFarm + " bytes for clones, "
+                + distinctFarm + " bytes for distinct genomes");
+        assertEquals(1, countInstances(clones));
+        assertEquals(FARM_SIZE, countInstances(distinct));
+        assertTrue("Clone farm used " + cloneFarm + " bytes, distinct farm " + distinctFarm + " bytes",
+                cloneFarm < distinctFarm / 4);
+    }
+
+    @Test
+    public void testClonesDoNotChain() {
+        IAgriGenome genome = build(42);
+        IAgriGenome clone = genome;
+        for(int i = 0; i < GENERATIONS; i++) {
+            clone = AgriGenome.builder(TestGenetics.PLANT).cloneFrom(clone.clone()).build();
+        }
+        assertSame(genome, clone);
+    }
+
+    @Test
+    public void testReadCostOverGenerations() {
+        // Every generation is cloned from the previous one and then mutated, like the offspring of a clone farm
+        IAgriGenome first = build(0);
+        IAgriGenome genome = first;
+        for(int i = 1; i <= GENERATIONS; i++) {
+            int allele = i % TestGenetics.GENE_A.getAlleleCount();
+            genome = AgriGenome.builder(TestGenetics.PLANT)
+                    .cloneFrom(genome.clone())
+                    .put(TestGenetics.GENE_A.pair(allele, allele))
+                    .build();
+        }
+        IAgriGenome last = genome;
+        assertEquals(GENERATIONS % TestGenetics.GENE_A.getAlleleCount(),
+                (int) last.getGenePair(TestGenetics.GENE_A).getDominant().trait());
+
+        // Warm up, then take the best of several interleaved runs for both generations
+        long firstTime = Long.MAX_VALUE;
+        long lastTime = Long.MAX_VALUE;
+        for(int run = 0; run < 10; run++) {
+            firstTime = Math.min(firstTime, timeReads(first));
+            lastTime = Math.min(lastTime, timeReads(last));
+        }
+        long bytes = AllocationCounter.measure(() -> timeReads(last));
+        System.out.println("Reading " + READS + " gene pairs: " + firstTime + " ns for the first generation, "
+                + lastTime + " ns after " + GENERATIONS + " generations");
+        assertTrue("Reads allocated " + bytes + " bytes", bytes < READS);
+        assertTrue("Reads took " + lastTime + " ns after " + GENERATIONS + " generations, " + firstTime + " ns before",
+                lastTime < 2 * firstTime + 1000000);
+    }
+
+    private static IAgriGenome build(int variant) {
+        int a = variant % TestGenetics.GENE_A.getAlleleCount();
+        int b = variant / TestGenetics.GENE_A.getAlleleCount();
+        return AgriGenome.builder(TestGenetics.PLANT)
+                .put(TestGenetics.GENE_A.pair(a, a))
+                .put(TestGenetics.GENE_B.pair(b, b))
+                .build();
+    }
+
+    private static int countInstances(Object[] objects) {
+        Set<Object> instances = Collections.newSetFromMap(new IdentityHashMap<>());
+        Collections.addAll(instances, objects);
+        return instances.size();
+    }
+
+    private static long timeReads(IAgriGenome genome) {
+        long start = System.nanoTime();
+        long sum = 0;
+        for(int i = 0; i < READS; i++) {
+            sum += genome.getGenePair(TestGenetics.GENE_A).getDominant().trait();
+            sum += genome.getGenePair(TestGenetics.GENE_B).getRecessive().trait();
+        }
+        long time = System.nanoTime() - start;
+        sink += sum;
+        return time;
+    }
+}
@@ -0,0 +1,133 @@
+package com.infinityraider.agricraft.impl.v1.genetics;
+
+import com.infinityraider.agricraft.api.v1.crop.IAgriCrop;
+import com.infinityraider.agricraft.api.v1.stat.IAgriStat;
+import com.infinityraider.agricraft.api.v1.stat.IAgriStatsMap;
+import com.infinityraider.agricraft.testing.AllocationCounter;
+import net.minecraft.nbt.CompoundNBT;
+import org.junit.Test;
+
+import javax.annotation.Nonnull;
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class AgriMutationEngineTest {
+    private static final int MAX_FERTILITY = 10;
+    private static final int RUNS = 10000;
+
+    @Test
+    public void testArraySelectionMatchesStreamSelection() {
+        TestEngine engine = new TestEngine();
+        IAgriCrop[] neighbours = neighbours();
+        for(long seed = 0; seed < 100; seed++) {
+            List<IAgriCrop> expected = engine.selectAndSortCandidates(Arrays.stream(neighbours), new Random(seed));
+            IAgriCrop[] array = neighbours.clone();
+            int count = engine.selectAndSortCandidates(array, array.length, new Random(seed));
+            assertEquals(expected, Arrays.asList(array).subList(0, count));
+        }
+    }
+
+    @Test
+    public void testArraySelectionDoesNotAllocate() {
+        TestEngine engine = new TestEngine();
+        IAgriCrop[] neighbours = neighbours();
+        IAgriCrop[] buffer = new IAgriCrop[neighbours.length];
+        Random random = new Random(0);
+        int[] selected = new int[1];
+        Runnable arrays = () -> {
+            for(int i = 0; i < RUNS; i++) {
+                System.arraycopy(neighbours, 0, buffer, 0, neighbours.length);
+                selected[0] += engine.selectAndSortCandidates(buffer, buffer.length, random);
+            }
+        };
+        Runnable streams = () -> {
+            for(int i = 0; i < RUNS; i++) {
+                selected[0] += engine.selectAndSortCandidates(Arrays.stream(neighbours), random).size();
+            }
+        };
+        arrays.run();
+        streams.run();
+        long arrayBytes = AllocationCounter.measure(arrays);
+        long streamBytes = AllocationCounter.measure(streams);
+        System.out.println("Selecting parents " + RUNS + " times: " + arrayBytes + " bytes allocated in place, "
+                + streamBytes + " bytes allocated with streams");
+        assertTrue("In place selection allocated " + arrayBytes + " bytes", arrayBytes < RUNS);
+    }
+
+    private static IAgriCrop[] neighbours() {
+        return new IAgriCrop[] {
+                crop(true, 3),
+                crop(true, 8),
+                crop(false, 9),
+                crop(true, 8)
+        };
+    }
+
+    private static IAgriCrop crop(boolean mature, int fertility) {
+        IAgriStatsMap stats = new TestStats(fertility);
+        Boolean isMature = mature;
+        // Crops have far too many methods to implement, a proxy without arguments or boxing does not allocate
+        return (IAgriCrop) Proxy.newProxyInstance(IAgriCrop.class.getClassLoader(), new Class<?>[]{IAgriCrop.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "isValid":
+                        case "isFertile":
+                            return Boolean.TRUE;
+                        case "isMature":
+                            return isMature;
+                        case "getStats":
+                            return stats;
+                        case "equals":
+                            return proxy == args[0];
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "toString":
+                            return "crop with fertility " + fertility;
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+    }
+
+    /**
+     * Reads the fertility from the test stats, the stat registry requires the mod config
+     */
+    private static final class TestEngine extends AgriMutationEngine {
+        @Override
+        protected int sorter(IAgriCrop crop) {
+            return MAX_FERTILITY - crop.getStats().getValue(null);
+        }
+
+        @Override
+        protected boolean rollFertility(IAgriCrop crop, Random random) {
+            return random.nextInt(MAX_FERTILITY) < crop.getStats().getValue(null);
+        }
+    }
+
+    private static final class TestStats implements IAgriStatsMap {
+        private final int fertility;
+
+        private TestStats(int fertility) {
+            this.fertility = fertility;
+        }
+
+        @Override
+        public int getValue(IAgriStat stat) {
+            return this.fertility;
+        }
+
+        @Override
+        public boolean writeToNBT(@Nonnull CompoundNBT tag) {
+            return false;
+        }
+
+        @Override
+        public boolean readFromNBT(@Nonnull CompoundNBT tag) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.infinityraider.agricraft.impl.v1.genetics;
+
+import com.google.common.collect.ImmutableSet;
+import com.infinityraider.agricraft.api.v1.genetics.IAgriGene;
+import com.infinityraider.agricraft.api.v1.genetics.IAgriGenePair;
+import com.infinityraider.agricraft.api.v1.genetics.IAllele;
+import com.infinityraider.agricraft.api.v1.genetics.IMutator;
+import com.infinityraider.agricraft.api.v1.plant.IAgriPlant;
+import net.minecraft.nbt.CompoundNBT;
+import net.minecraft.util.math.vector.Vector3f;
+import net.minecraft.util.text.IFormattableTextComponent;
+import net.minecraft.util.text.StringTextComponent;
+
+import javax.annotation.Nonnull;
+import java.util.Set;
+
+/**
+ * Gene with a fixed number of integer alleles, which does not depend on the stat registry or the mod config
+ */
+class TestGene implements IAgriGene<Integer> {
+    private final String id;
+    private final TestAllele[] alleles;
+
+    TestGene(String id, int count) {
+        this.id = id;
+        this.alleles = new TestAllele[count];
+        for(int i = 0; i < count; i++) {
+            this.alleles[i] = new TestAllele(this, i);
+        }
+    }
+
+    IAgriGenePair<Integer> pair(int first, int second) {
+        return this.generateGenePair(this.getAllele(first), this.getAllele(second));
+    }
+
+    int getAlleleCount() {
+        return this.alleles.length;
+    }
+
+    @Nonnull
+    @Override
+    public IAllele<Integer> defaultAllele(IAgriPlant plant) {
+        return this.alleles[0];
+    }
+
+    @Nonnull
+    @Override
+    public IAllele<Integer> getAllele(Integer value) {
+        return this.alleles[value];
+    }
+
+    @Nonnull
+    @Override
+    public IAllele<Integer> readAlleleFromNBT(@Nonnull CompoundNBT tag) {
+        return this.getAllele(tag.getInt(this.id));
+    }
+
+    @Nonnull
+    @Override
+    public Set<IAllele<Integer>> allAlleles() {
+        return ImmutableSet.copyOf(this.alleles);
+    }
+
+    @Nonnull
+    @Override
+    public IMutator<Integer> mutator() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Nonnull
+    @Override
+    public IAgriGenePair<Integer> generateGenePair(IAllele<Integer> first, IAllele<Integer> second) {
+        return new AgriGenePair<>(this, first, second);
+    }
+
+    @Nonnull
+    @Override
+    public IFormattableTextComponent getDescription() {
+        return new StringTextComponent(this.id);
+    }
+
+    @Nonnull
+    @Override
+    public Vector3f getDominantColor() {
+        return new Vector3f(1, 1, 1);
+    }
+
+    @Nonnull
+    @Override
+    public Vector3f getRecessiveColor() {
+        return new Vector3f(1, 1, 1);
+    }
+
+    @Nonnull
+    @Override
+    public String getId() {
+        return this.id;
+    }
+
+    private static final class TestAllele implements IAllele<Integer> {
+        private final TestGene gene;
+        private final Integer value;
+
+        private TestAllele(TestGene gene, int value) {
+            this.gene = gene;
+            this.value = value;
+        }
+
+        @Override
+        public IAgriGene<Integer> gene() {
+            return this.gene;
+        }
+
+        @Override
+        public Integer trait() {
+            return this.value;
+        }
+
+        @Override
+        public boolean isDominant(IAllele<Integer> other) {
+            return this.trait() >= other.trait();
+        }
+
+        @Override
+        public IFormattableTextComponent getTooltip() {
+            return new StringTextComponent(this.value.toString());
+        }
+
+        @Nonnull
+        @Override
+        public CompoundNBT writeToNBT() {
+            CompoundNBT tag = new CompoundNBT();
+            tag.putInt(this.gene.getId(), this.value);
+            return tag;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.infinityraider.agricraft.impl.v1.genetics;
+
+import com.infinityraider.agricraft.api.v1.plant.IAgriPlant;
+
+import java.lang.reflect.Proxy;
+
+/**
+ * Genes and plants shared by the genetics tests, the genes are registered once per test run
+ */
+final class TestGenetics {
+    static final TestGene GENE_A = register(new TestGene("test_gene_a", 100));
+    static final TestGene GENE_B = register(new TestGene("test_gene_b", 100));
+
+    static final IAgriPlant PLANT = plant("test_plant");
+
+    private TestGenetics() {}
+
+    private static TestGene register(TestGene gene) {
+        AgriGeneRegistry.getInstance().add(gene);
+        return gene;
+    }
+
+    /**
+     * Creates a plant which only supports the methods used by genomes, plants have far too many methods to implement
+     * @param id the id of the plant
+     * @return the plant
+     */
+    static IAgriPlant plant(String id) {
+        return (IAgriPlant) Proxy.newProxyInstance(IAgriPlant.class.getClassLoader(), new Class<?>[]{IAgriPlant.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "getId":
+                        case "toString":
+                            return id;
+                        case "hashCode":
+                            return id.hashCode();
+                        case "equals":
+                            return proxy == args[0];
+                        case "isPlant":
+                        case "isDominant":
+                            return true;
+                        case "trait":
+                            return proxy;
+                        case "gene":
+                            return GeneSpecies.getInstance();
+                        case "compareTo":
+                            return id.compareTo(((IAgriPlant) args[0]).getId());
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+    }
+}
@@ -0,0 +1,142 @@
+package com.infinityraider.agricraft.impl.v1.requirement;
+
+import com.google.common.collect.ImmutableList;
+import com.infinityraider.agricraft.api.v1.soil.IAgriSoil;
+import com.infinityraider.agricraft.testing.AllocationCounter;
+import net.minecraft.block.AbstractBlock;
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.material.Material;
+import net.minecraft.util.text.ITextComponent;
+import net.minecraft.util.text.StringTextComponent;
+import org.junit.Test;
+
+import javax.annotation.Nonnull;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.*;
+
+public class AgriSoilRegistryTest {
+    private static final int SOILS = 64;
+    private static final int VARIANTS = 4;
+    private static final int RUNS = 100000;
+
+    // Soils are registered once per test run, every soil has its own variants and one variant shared with the next soil
+    private static final BlockState[] STATES = states(SOILS*VARIANTS + 1);
+    private static final List<IAgriSoil> SOIL_LIST = soils();
+
+    @Test
+    public void testIndexMatchesScan() {
+        AgriSoilRegistry registry = AgriSoilRegistry.getInstance();
+        for(BlockState state : STATES) {
+            assertEquals(scan(state), registry.get(state));
+            assertEquals(!scan(state).isEmpty(), registry.contains(state));
+        }
+        // The shared variants belong to two soils
+        assertEquals(2, registry.get(STATES[VARIANTS]).size());
+        // The last state is not a variant of any soil
+        assertFalse(registry.contains(STATES[STATES.length - 1]));
+        for(IAgriSoil soil : SOIL_LIST) {
+            for(BlockState state : STATES) {
+                assertEquals(soil.isVariant(state), registry.isVariant(soil, state));
+            }
+        }
+    }
+
+    @Test
+    public void testIndexIsFasterThanScan() {
+        AgriSoilRegistry registry = AgriSoilRegistry.getInstance();
+        int[] found = new int[1];
+        Runnable index = () -> {
+            for(int i = 0; i < RUNS; i++) {
+                found[0] += registry.get(STATES[i % STATES.length]).size();
+            }
+        };
+        Runnable scan = () -> {
+            for(int i = 0; i < RUNS; i++) {
+                found[0] += scan(STATES[i % STATES.length]).size();
+            }
+        };
+        // Warm up, which also builds the index
+        index.run();
+        scan.run();
+        long indexBytes = AllocationCounter.measure(index);
+        long indexNanos = time(index);
+        long scanNanos = time(scan);
+        System.out.println("Looking up " + RUNS + " soils among " + SOILS + " soils: " + indexNanos / 1000 + " us with the index, "
+                + scanNanos / 1000 + " us with a scan");
+        assertTrue("Index lookups allocated " + indexBytes + " bytes", indexBytes < RUNS);
+        assertTrue("Index lookups took " + indexNanos + " ns, scans took " + scanNanos + " ns", indexNanos < scanNanos);
+    }
+
+    // The lookup as it was done before the index
+    private static List<IAgriSoil> scan(BlockState state) {
+        return AgriSoilRegistry.getInstance().stream().filter(soil -> soil.isVariant(state)).collect(Collectors.toList());
+    }
+
+    private static long time(Runnable task) {
+        long start = System.nanoTime();
+        task.run();
+        return System.nanoTime() - start;
+    }
+
+    private static BlockState[] states(int count) {
+        BlockState[] states = new BlockState[count];
+        for(int i = 0; i < count; i++) {
+            states[i] = new Block(AbstractBlock.Properties.create(Material.ROCK)).getDefaultState();
+        }
+        return states;
+    }
+
+    private static List<IAgriSoil> soils() {
+        ImmutableList.Builder<IAgriSoil> soils = ImmutableList.builder();
+        for(int i = 0; i < SOILS; i++) {
+            ImmutableList.Builder<BlockState> variants = ImmutableList.builder();
+            for(int j = 0; j < VARIANTS; j++) {
+                variants.add(STATES[i*VARIANTS + j]);
+            }
+            if(i < SOILS - 1) {
+                variants.add(STATES[(i + 1)*VARIANTS]);
+            }
+            IAgriSoil soil = new TestSoil("test_soil_" + i, variants.build());
+            AgriSoilRegistry.getInstance().add(soil);
+            soils.add(soil);
+        }
+        return soils.build();
+    }
+
+    private static final class TestSoil implements IAgriSoil {
+        private final String id;
+        private final List<BlockState> variants;
+
+        private TestSoil(String id, List<BlockState> variants) {
+            this.id = id;
+            this.variants = variants;
+        }
+
+        @Nonnull
+        @Override
+        public String getId() {
+            return this.id;
+        }
+
+        @Nonnull
+        @Override
+        public ITextComponent getName() {
+            return new StringTextComponent(this.id);
+        }
+
+        @Nonnull
+        @Override
+        public Collection<BlockState> getVariants() {
+            return this.variants;
+        }
+
+        @Override
+        public String toString() {
+            return this.id;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.infinityraider.agricraft.testing;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Counts the bytes allocated by the current thread while running a task.
+ *
+ * Relies on the allocation counters of the HotSpot ThreadMXBean, which are exact per thread.
+ * Reading the counter allocates by itself, this overhead is measured first and subtracted.
+ */
+public final class AllocationCounter {
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private AllocationCounter() {}
+
+    /**
+     * Runs a task and counts the bytes it allocated
+     * @param task the task, should be created before calling this method
+     * @return the number of bytes allocated by the task on the current thread
+     */
+    public static long measure(Runnable task) {
+        long thread = Thread.currentThread().getId();
+        long start = THREADS.getThreadAllocatedBytes(thread);
+        long overhead = THREADS.getThreadAllocatedBytes(thread) - start;
+        start = THREADS.getThreadAllocatedBytes(thread);
+        task.run();
+        long end = THREADS.getThreadAllocatedBytes(thread);
+        return Math.max(0, end - start - overhead);
+    }
+}
@@ -0,0 +1,25 @@
+package com.infinityraider.agricraft.testing;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+
+/**
+ * Measures the heap used by live objects, to compare the footprint of data structures
+ */
+public final class HeapUsage {
+    private static final MemoryMXBean MEMORY = ManagementFactory.getMemoryMXBean();
+
+    private HeapUsage() {}
+
+    /**
+     * Collects garbage and measures the used heap, differences between two measurements are the size of the objects
+     * which were created and kept alive in between
+     * @return the used heap in bytes
+     */
+    public static long measure() {
+        for(int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return MEMORY.getHeapMemoryUsage().getUsed();
+    }
+}